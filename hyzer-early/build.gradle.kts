@@ -28,6 +28,28 @@ dependencies {
     implementation("org.ow2.asm:asm-util:9.8")
 }
 
+// Offline transformer check (src/verify): patches every target class in a HytaleServer.jar,
+// verifies the result with ASM and reports per-method size changes against JIT inlining limits.
+// Usage: ./gradlew verifyTransformers [-PserverJar=/path/to/HytaleServer.jar]
+val serverJar = file(findProperty("serverJar")?.toString() ?: "../libs/HytaleServer.jar")
+
+val verify by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += output + sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath + files(serverJar)
+}
+
+tasks.register<JavaExec>("verifyTransformers") {
+    group = "verification"
+    description = "Runs every transformer against HytaleServer.jar and verifies the output"
+    classpath = verify.runtimeClasspath
+    mainClass.set("com.hyzer.early.TransformerVerifier")
+    args(serverJar.absolutePath)
+    // Own working directory: default config, and no mods/hyzer files written next to the sources
+    val runDir = layout.buildDirectory.dir("verifyTransformers").get().asFile
+    workingDir = runDir
+    doFirst { runDir.mkdirs() }
+}
+
 // Task to update manifest.json with current version
 tasks.register("updateManifestVersion") {
     doLast {
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -32,10 +31,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/20">GitHub Issue #20</a>
  */
-public class ArchetypeChunkTransformer implements ClassTransformer {
+public class ArchetypeChunkTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.component.ArchetypeChunk";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         // High priority - core ECS component
@@ -63,7 +67,7 @@ public class ArchetypeChunkTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new ArchetypeChunkVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -30,10 +29,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/8">GitHub Issue #8</a>
  */
-public class BlockComponentChunkTransformer implements ClassTransformer {
+public class BlockComponentChunkTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.chunk.BlockComponentChunk";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -58,7 +62,7 @@ public class BlockComponentChunkTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new BlockComponentChunkVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
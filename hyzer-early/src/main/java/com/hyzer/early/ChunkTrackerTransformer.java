@@ -0,0 +1,115 @@
+package com.hyzer.early;
+
+import com.hyzer.early.config.EarlyConfigManager;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * Hyzer Early Plugin - ChunkTracker Bytecode Transformer
+ *
+ * This transformer fixes the world crash when a player disconnects while their
+ * ChunkTracker still has chunks queued for unload.
+ *
+ * The Bug:
+ * ChunkTracker.tryUnloadChunk() dereferences PlayerRef.getReference() without a null check.
+ * Once the player has been removed the reference is null and the world thread crashes:
+ *
+ * Error: java.lang.NullPointerException: Cannot invoke "Ref.getStore()" because the return value of
+ *        "PlayerRef.getReference()" is null
+ *        at ChunkTracker.tryUnloadChunk(ChunkTracker.java:532)
+ *
+ * The Fix:
+ * Inject a null check after every PlayerRef.getReference() call in tryUnloadChunk().
+ * If null, the method returns early with its default value, skipping the call.
+ * Methods returning an object have no safe early-return value; if any call sits in one, the
+ * class is left unchanged and the runtime ChunkTrackerSanitizer stays in charge.
+ *
+ * The NPE message shows the shape at line 532: the null comes straight off the stack from
+ * INVOKEVIRTUAL PlayerRef.getReference() into INVOKEVIRTUAL Ref.getStore(), with no local in
+ * between, which is where the guard goes. What the skipped call would have unloaded is not
+ * known, and the stale ref stays in the tracker, so the guard does not clean anything up.
+ *
+ * Impact:
+ * - Removes the crash without the runtime ChunkTrackerSanitizer having to run every tick
+ * - Sets the system property {@value #GUARD_PROPERTY}; the runtime plugin then keeps the
+ *   sanitizer as a sampled check that prunes the stale refs
+ *
+ * GitHub Issue: https://github.com/DuvyDev/Hyzenkernel/issues/6
+ */
+public class ChunkTrackerTransformer implements TargetedClassTransformer {
+
+    private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.modules.entity.player.ChunkTracker";
+
+    /** Set to "true" once the guard is in place; read by the runtime plugin. */
+    public static final String GUARD_PROPERTY = "hyzer.early.chunkTrackerGuard";
+
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public int priority() {
+        return 100;
+    }
+
+    @Override
+    public void restoreFromCache() {
+        // Only patched bytes are cached, so the guard is in place
+        System.setProperty(GUARD_PROPERTY, "true");
+    }
+
+    @Override
+    public byte[] transform(String className, String packageName, byte[] classBytes) {
+        if (!className.equals(TARGET_CLASS)) {
+            return classBytes;
+        }
+
+        // Check if transformer is enabled via config
+        if (!EarlyConfigManager.getInstance().isTransformerEnabled("chunkTracker")) {
+            info("ChunkTrackerTransformer DISABLED by config");
+            return classBytes;
+        }
+
+        separator();
+        info("Transforming ChunkTracker...");
+        verbose("Fixing null PlayerRef.getReference() crash in tryUnloadChunk()");
+        separator();
+
+        try {
+            ClassReader reader = new ClassReader(classBytes);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ChunkTrackerVisitor visitor = new ChunkTrackerVisitor(writer);
+
+            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
+
+            if (visitor.getGuardsSkipped() > 0) {
+                // Partly guarded bytes would be cached and restore GUARD_PROPERTY on the next boot,
+                // so all or nothing
+                error("WARNING: " + visitor.getGuardsSkipped() + " PlayerRef.getReference() call(s) in tryUnloadChunk() "
+                        + "code returning an object cannot be guarded - ChunkTracker left unchanged");
+                return classBytes;
+            }
+
+            if (visitor.getGuardsInjected() == 0) {
+                error("WARNING: No PlayerRef.getReference() call found in tryUnloadChunk() - ChunkTracker left unchanged");
+                return classBytes;
+            }
+
+            byte[] transformedBytes = writer.toByteArray();
+            System.setProperty(GUARD_PROPERTY, "true");
+            info("ChunkTracker transformation COMPLETE! (" + visitor.getGuardsInjected() + " null guard(s))");
+            verbose("Original size: " + classBytes.length + " bytes");
+            verbose("Transformed size: " + transformedBytes.length + " bytes");
+
+            return transformedBytes;
+
+        } catch (Exception e) {
+            error("ERROR: Failed to transform ChunkTracker!");
+            error("Returning original bytecode to prevent crash.", e);
+            return classBytes;
+        }
+    }
+}
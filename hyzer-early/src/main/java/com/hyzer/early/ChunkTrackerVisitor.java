@@ -0,0 +1,57 @@
+package com.hyzer.early;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * ASM ClassVisitor for ChunkTracker transformation.
+ * Intercepts the tryUnloadChunk method to add null checks for PlayerRef.getReference().
+ */
+public class ChunkTrackerVisitor extends ClassVisitor {
+
+    private static final String TRY_UNLOAD_CHUNK_METHOD = "tryUnloadChunk";
+    private static final String TRY_UNLOAD_CHUNK_LAMBDA_PREFIX = "lambda$tryUnloadChunk$";
+
+    private int guardsInjected = 0;
+    private int guardsSkipped = 0;
+
+    public ChunkTrackerVisitor(ClassVisitor cv) {
+        super(Opcodes.ASM9, cv);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+
+        // Lambdas compiled out of tryUnloadChunk() get the same guard
+        if (name.equals(TRY_UNLOAD_CHUNK_METHOD) || name.startsWith(TRY_UNLOAD_CHUNK_LAMBDA_PREFIX)) {
+            verbose("Found method: " + name + descriptor);
+            verbose("Applying null PlayerRef reference check...");
+            return new TryUnloadChunkMethodVisitor(mv, descriptor, this);
+        }
+
+        return mv;
+    }
+
+    void guardInjected() {
+        guardsInjected++;
+    }
+
+    void guardSkipped() {
+        guardsSkipped++;
+    }
+
+    public int getGuardsInjected() {
+        return guardsInjected;
+    }
+
+    /**
+     * PlayerRef.getReference() calls left unguarded because their method returns an object.
+     */
+    public int getGuardsSkipped() {
+        return guardsSkipped;
+    }
+}
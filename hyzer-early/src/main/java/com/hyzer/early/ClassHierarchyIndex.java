@@ -0,0 +1,138 @@
+package com.hyzer.early;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * Superclass/interface index used by {@link HierarchyClassWriter} to compute stack map frames.
+ *
+ * Entries are read from the .class resources (HytaleServer.jar, the JDK runtime image) with a
+ * header-only ClassReader - nothing is loaded or defined, so computing frames never pulls a
+ * server class in before its own transformer has seen it. Lookups are cached for the whole
+ * boot, including misses; the same few types (World, Store, Ref, ...) come up in most patches.
+ */
+public final class ClassHierarchyIndex {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final Entry MISSING = new Entry(null, new String[0], false);
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private ClassHierarchyIndex() {
+    }
+
+    /**
+     * Nearest common superclass of two internal names, as
+     * {@link org.objectweb.asm.ClassWriter#getCommonSuperClass(String, String)} defines it.
+     *
+     * @throws TypeNotPresentException if either hierarchy cannot be read
+     */
+    static String getCommonSuperClass(String type1, String type2) {
+        Entry entry1 = resolve(type1);
+        Entry entry2 = resolve(type2);
+        if (isAssignableFrom(type1, type2)) {
+            return type1;
+        }
+        if (isAssignableFrom(type2, type1)) {
+            return type2;
+        }
+        if (entry1.isInterface || entry2.isInterface) {
+            return OBJECT;
+        }
+        String type = type1;
+        do {
+            type = resolve(type).superName;
+            if (type == null) {
+                return OBJECT;
+            }
+        } while (!isAssignableFrom(type, type2));
+        return type;
+    }
+
+    /**
+     * True if {@code type} is {@code target} or extends/implements it, directly or not.
+     */
+    private static boolean isAssignableFrom(String target, String type) {
+        if (target.equals(type) || OBJECT.equals(target)) {
+            return true;
+        }
+        Deque<String> pending = new ArrayDeque<>();
+        Set<String> seen = new HashSet<>();
+        pending.push(type);
+        while (!pending.isEmpty()) {
+            String current = pending.pop();
+            if (!seen.add(current)) {
+                continue;
+            }
+            if (current.equals(target)) {
+                return true;
+            }
+            Entry entry = resolve(current);
+            if (entry.superName != null) {
+                pending.push(entry.superName);
+            }
+            for (String iface : entry.interfaces) {
+                pending.push(iface);
+            }
+        }
+        return false;
+    }
+
+    private static Entry resolve(String internalName) {
+        Entry entry = ENTRIES.computeIfAbsent(internalName, ClassHierarchyIndex::read);
+        if (entry == MISSING) {
+            throw new TypeNotPresentException(internalName.replace('/', '.'), null);
+        }
+        return entry;
+    }
+
+    private static Entry read(String internalName) {
+        String resource = internalName + ".class";
+        for (ClassLoader loader : candidateLoaders()) {
+            if (loader == null) {
+                continue;
+            }
+            try (InputStream in = loader.getResourceAsStream(resource)) {
+                if (in == null) {
+                    continue;
+                }
+                ClassReader reader = new ClassReader(in);
+                return new Entry(reader.getSuperName(), reader.getInterfaces(),
+                        (reader.getAccess() & Opcodes.ACC_INTERFACE) != 0);
+            } catch (IOException | RuntimeException e) {
+                verbose("Could not read " + resource + " for frame computation: " + e.getMessage());
+            }
+        }
+        return MISSING;
+    }
+
+    private static ClassLoader[] candidateLoaders() {
+        return new ClassLoader[] {
+                Thread.currentThread().getContextClassLoader(),
+                ClassHierarchyIndex.class.getClassLoader(),
+                ClassLoader.getSystemClassLoader()
+        };
+    }
+
+    private static final class Entry {
+        final String superName;
+        final String[] interfaces;
+        final boolean isInterface;
+
+        Entry(String superName, String[] interfaces, boolean isInterface) {
+            this.superName = superName;
+            this.interfaces = interfaces;
+            this.isInterface = isInterface;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -38,10 +37,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/12">GitHub Issue #12</a>
  */
-public class CommandBufferTransformer implements ClassTransformer {
+public class CommandBufferTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.component.CommandBuffer";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         // High priority - we want this transformation to happen early
@@ -69,10 +73,12 @@ public class CommandBufferTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            // Only renames a call with the same descriptor - frames and max stack are unchanged,
+            // so everything is copied through without recomputation
+            ClassWriter writer = new ClassWriter(reader, 0);
             ClassVisitor visitor = new CommandBufferVisitor(writer);
 
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
+            reader.accept(visitor, 0);
 
             byte[] transformedBytes = writer.toByteArray();
             info("CommandBuffer transformation COMPLETE!");
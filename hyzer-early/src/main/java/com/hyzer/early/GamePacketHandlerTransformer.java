@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -14,11 +13,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * Mitigates NPE crashes when stale player refs cause getComponent() to return null.
  * We guard the ClientMovement lambda to skip the task instead of crashing the world.
  */
-public class GamePacketHandlerTransformer implements ClassTransformer {
+public class GamePacketHandlerTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.server.core.io.handlers.game.GamePacketHandler";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -42,7 +46,7 @@ public class GamePacketHandlerTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new GamePacketHandlerVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -0,0 +1,38 @@
+package com.hyzer.early;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * ClassWriter for Hyzer transformers.
+ *
+ * With COMPUTE_FRAMES, ASM's default getCommonSuperClass() calls Class.forName() on both
+ * types, loading server classes mid-transform - slow at startup, and a class loaded that way
+ * can be defined before its own transformer runs. This writer answers from the
+ * {@link ClassHierarchyIndex} instead, which only reads class bytes.
+ *
+ * If a type cannot be found as a resource it falls back to ASM's class-loading lookup rather
+ * than guessing java/lang/Object and emitting frames that fail verification.
+ */
+public class HierarchyClassWriter extends ClassWriter {
+
+    /**
+     * @param reader the reader of the class being transformed, so its constant pool and any
+     *               method the visitor leaves alone are copied instead of rebuilt
+     */
+    public HierarchyClassWriter(ClassReader reader, int flags) {
+        super(reader, flags);
+    }
+
+    @Override
+    protected String getCommonSuperClass(String type1, String type2) {
+        try {
+            return ClassHierarchyIndex.getCommonSuperClass(type1, type2);
+        } catch (TypeNotPresentException e) {
+            verbose("Hierarchy of " + e.typeName() + " not readable, loading it to compute frames");
+            return super.getCommonSuperClass(type1, type2);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.hyzer.early;
+
+import com.hyzer.early.config.EarlyConfigManager;
+import com.hypixel.hytale.plugin.early.ClassTransformer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * Hyzer Early Plugin - Routing Transformer
+ *
+ * The only transformer registered in META-INF/services. The server passes every class it
+ * loads through each registered transformer, so registering the individual fixes meant ~25
+ * transform() calls per class, each doing its own name check (and some a config lookup
+ * first). This transformer holds an immutable map from target class name to the fixes for
+ * that class: a class Hyzer does not patch costs one hash lookup and gets its original bytes
+ * back untouched.
+ *
+ * To add a fix, implement {@link TargetedClassTransformer} and list it in {@link #createTransformers()}.
+ * Fixes that share a target run in priority order (highest first), then in list order.
+ *
+ * Patched classes are kept in a {@link TransformCache}; on a hit ASM is skipped entirely.
+ * Time spent here is recorded by the {@link TransformProfiler} and reported once boot completes.
+ */
+public class HyzerClassTransformer implements ClassTransformer {
+
+    private final Map<String, TargetedClassTransformer[]> routes;
+    private final TransformCache cache;
+    private final TransformProfiler profiler;
+
+    public HyzerClassTransformer() {
+        List<TargetedClassTransformer> transformers = createTransformers();
+        this.routes = buildRoutes(transformers);
+        EarlyConfigManager config = EarlyConfigManager.getInstance();
+        this.cache = config.isTransformCacheEnabled() ? TransformCache.create(config.getConfig()) : null;
+        this.profiler = config.isTransformProfileEnabled() ? new TransformProfiler(transformers) : null;
+        if (profiler != null) {
+            profiler.start();
+        }
+        verbose("Routing " + routes.size() + " target classes, transform cache " + (cache != null ? "enabled" : "disabled"));
+    }
+
+    // Package-private for the offline TransformerVerifier (src/verify)
+    static List<TargetedClassTransformer> createTransformers() {
+        return List.of(
+                new InteractionChainTransformer(),
+                new InteractionManagerTransformer(),
+                new WorldTransformer(),
+                new SpawnReferenceSystemsTransformer(),
+                new BlockComponentChunkTransformer(),
+                new SpawnMarkerSystemsTransformer(),
+                new TrackedPlacementTransformer(),
+                new CommandBufferTransformer(),
+                new WorldMapTrackerTransformer(),
+                new ArchetypeChunkTransformer(),
+                new PacketHandlerTransformer(),
+                new GamePacketHandlerTransformer(),
+                new UUIDSystemTransformer(),
+                new TickingThreadTransformer(),
+                new UniverseTransformer(),
+                new SetMemoriesCapacityTransformer(),
+                new BlockHealthSystemTransformer(),
+                new WorldSpawningSystemTransformer(),
+                new PrefabLoaderTransformer(),
+                new InstancesPluginTransformer(),
+                new ChunkSavingSystemsTransformer(),
+                new WorldConfigSpawnProviderTransformer(),
+                new RemovalSystemTransformer(),
+                new PortalDeviceSummonPageTransformer(),
+                new ChunkTrackerTransformer()
+        );
+    }
+
+    static Map<String, TargetedClassTransformer[]> buildRoutes(List<TargetedClassTransformer> transformers) {
+        Map<String, List<TargetedClassTransformer>> byTarget = new HashMap<>();
+        for (TargetedClassTransformer transformer : transformers) {
+            byTarget.computeIfAbsent(transformer.getTargetClass(), key -> new ArrayList<>()).add(transformer);
+        }
+
+        Map<String, TargetedClassTransformer[]> routes = new HashMap<>();
+        for (Map.Entry<String, List<TargetedClassTransformer>> entry : byTarget.entrySet()) {
+            List<TargetedClassTransformer> chain = entry.getValue();
+            // Stable sort keeps list order between equal priorities
+            chain.sort(Comparator.comparingInt(ClassTransformer::priority).reversed());
+            routes.put(entry.getKey(), chain.toArray(new TargetedClassTransformer[0]));
+        }
+        return Map.copyOf(routes);
+    }
+
+    @Override
+    public int priority() {
+        return 100;
+    }
+
+    @Override
+    public byte[] transform(String className, String packageName, byte[] classBytes) {
+        long start = profiler != null ? System.nanoTime() : 0L;
+        TargetedClassTransformer[] chain = routes.get(className);
+        if (chain == null) {
+            if (profiler != null) {
+                profiler.recordOtherClass(System.nanoTime() - start, classBytes.length);
+            }
+            return classBytes;
+        }
+
+        byte[] key = cache != null ? cache.key(className, classBytes) : null;
+        if (key != null) {
+            byte[] cached = cache.load(className, key);
+            if (profiler != null) {
+                profiler.recordCacheLookup(System.nanoTime() - start, cached != null);
+            }
+            if (cached != null) {
+                for (TargetedClassTransformer transformer : chain) {
+                    transformer.restoreFromCache();
+                }
+                info(className.substring(className.lastIndexOf('.') + 1) + " loaded from transform cache");
+                return cached;
+            }
+        }
+
+        byte[] bytes = classBytes;
+        for (TargetedClassTransformer transformer : chain) {
+            long transformStart = profiler != null ? System.nanoTime() : 0L;
+            byte[] transformed = transformer.transform(className, packageName, bytes);
+            if (profiler != null) {
+                profiler.recordTransform(transformer, System.nanoTime() - transformStart, bytes.length, transformed.length);
+            }
+            bytes = transformed;
+        }
+
+        // Unchanged results (disabled, nothing to patch, failed) are not cached
+        if (key != null && bytes != classBytes && !Arrays.equals(bytes, classBytes)) {
+            long storeStart = profiler != null ? System.nanoTime() : 0L;
+            cache.store(className, key, bytes);
+            if (profiler != null) {
+                profiler.recordCacheWrite(System.nanoTime() - storeStart);
+            }
+        }
+        return bytes;
+    }
+}
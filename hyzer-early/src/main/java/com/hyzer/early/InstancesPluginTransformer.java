@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -14,10 +13,15 @@ import static com.hyzer.early.EarlyLogger.*;
  * Rewrites spawnInstance(String, World, Transform) to reuse a shared instance
  * per instanceId (portal optimization).
  */
-public class InstancesPluginTransformer implements ClassTransformer {
+public class InstancesPluginTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.instances.InstancesPlugin";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -41,7 +45,7 @@ public class InstancesPluginTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new InstancesPluginVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -28,10 +27,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/blob/main/HYTALE_CORE_BUGS.md">HYTALE_CORE_BUGS.md</a>
  */
-public class InteractionChainTransformer implements ClassTransformer {
+public class InteractionChainTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.entity.InteractionChain";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         // High priority - we want this transformation to happen early
@@ -58,7 +62,7 @@ public class InteractionChainTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new InteractionChainVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -26,10 +25,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/40">Issue #40</a>
  */
-public class InteractionManagerTransformer implements ClassTransformer {
+public class InteractionManagerTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.entity.InteractionManager";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -55,7 +59,7 @@ public class InteractionManagerTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new InteractionManagerVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -14,11 +13,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * Prevents stacking return portals by reusing the stored spawn point
  * for instance-shared worlds.
  */
-public class PortalDeviceSummonPageTransformer implements ClassTransformer {
+public class PortalDeviceSummonPageTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.builtin.portals.ui.PortalDeviceSummonPage";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -42,7 +46,7 @@ public class PortalDeviceSummonPageTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new PortalDeviceSummonPageVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,6 +1,5 @@
 package com.hyzer.early;
 
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -14,11 +13,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * We add an existence check before reading the file so missing prefabs
  * return null quietly and don't spam logs for every new instance seed.
  */
-public class PrefabLoaderTransformer implements ClassTransformer {
+public class PrefabLoaderTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.builtin.hytalegenerator.assets.props.prefabprop.PrefabLoader";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -37,7 +41,7 @@ public class PrefabLoaderTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new PrefabLoaderVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
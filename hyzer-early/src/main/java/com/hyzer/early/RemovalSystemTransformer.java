@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 
 import static com.hyzer.early.EarlyLogger.*;
 
@@ -10,11 +9,16 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * Reserved for legacy behavior. Currently no-ops to preserve vanilla portal removal timing.
  */
-public class RemovalSystemTransformer implements ClassTransformer {
+public class RemovalSystemTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.builtin.instances.removal.RemovalSystem";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
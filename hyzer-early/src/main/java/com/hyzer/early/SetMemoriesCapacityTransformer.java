@@ -1,6 +1,5 @@
 package com.hyzer.early;
 
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -20,10 +19,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/52">Issue #52</a>
  */
-public class SetMemoriesCapacityTransformer implements ClassTransformer {
+public class SetMemoriesCapacityTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.adventure.memories.interactions.SetMemoriesCapacityInteraction";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public byte[] transform(String className, String packageName, byte[] classBytes) {
         // Only transform the target class
@@ -43,7 +47,7 @@ public class SetMemoriesCapacityTransformer implements ClassTransformer {
         try {
             ClassReader reader = new ClassReader(classBytes);
             // COMPUTE_FRAMES is required because we inject bytecode with jump instructions
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new SetMemoriesCapacityVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
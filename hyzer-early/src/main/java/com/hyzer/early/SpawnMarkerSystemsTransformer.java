@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -31,11 +30,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * - Eliminates need for runtime SpawnMarkerReferenceSanitizer (was fixing 7000+ entities/session)
  * - Much more efficient - only runs on entity removal, not every tick
  */
-public class SpawnMarkerSystemsTransformer implements ClassTransformer {
+public class SpawnMarkerSystemsTransformer implements TargetedClassTransformer {
 
     // Target the MarkerAddRemoveSystem inner class
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.npc.systems.SpawnReferenceSystems$MarkerAddRemoveSystem";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -60,7 +64,7 @@ public class SpawnMarkerSystemsTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new SpawnMarkerSystemsVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -27,11 +26,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * Transform onEntityAdded() to add a null check after getSpawnController().
  * If null, log a warning and despawn the NPC gracefully instead of crashing.
  */
-public class SpawnReferenceSystemsTransformer implements ClassTransformer {
+public class SpawnReferenceSystemsTransformer implements TargetedClassTransformer {
 
     // Target the inner class
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.npc.systems.SpawnReferenceSystems$BeaconAddRemoveSystem";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -56,7 +60,7 @@ public class SpawnReferenceSystemsTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new SpawnReferenceSystemsVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
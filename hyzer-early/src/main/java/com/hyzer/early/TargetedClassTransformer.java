@@ -0,0 +1,25 @@
+package com.hyzer.early;
+
+import com.hypixel.hytale.plugin.early.ClassTransformer;
+
+/**
+ * A Hyzer transformer that patches exactly one class.
+ *
+ * {@link HyzerClassTransformer} routes each class to the transformers that target it, so
+ * {@link #transform(String, String, byte[])} is only called with {@link #getTargetClass()}.
+ */
+public interface TargetedClassTransformer extends ClassTransformer {
+
+    /**
+     * Binary name of the class this transformer patches, e.g. {@code com.example.Outer$Inner}.
+     */
+    String getTargetClass();
+
+    /**
+     * Called instead of {@link #transform(String, String, byte[])} when the transformed bytes
+     * come from the {@link TransformCache}. Re-apply anything the transform does besides
+     * returning bytes.
+     */
+    default void restoreFromCache() {
+    }
+}
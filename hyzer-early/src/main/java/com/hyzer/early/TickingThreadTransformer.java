@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 
@@ -16,10 +15,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/32">GitHub Issue #32</a>
  */
-public class TickingThreadTransformer implements ClassTransformer {
+public class TickingThreadTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.util.thread.TickingThread";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -41,7 +45,7 @@ public class TickingThreadTransformer implements ClassTransformer {
             verbose("Fixing Thread.stop() UnsupportedOperationException (Issue #32)");
 
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
 
             TickingThreadVisitor visitor = new TickingThreadVisitor(writer);
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
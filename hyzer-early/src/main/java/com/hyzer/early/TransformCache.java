@@ -0,0 +1,172 @@
+package com.hyzer.early;
+
+import com.google.gson.Gson;
+import com.hyzer.early.config.EarlyPluginConfig;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * On-disk cache of transformed class bytes, in mods/hyzer/cache.
+ *
+ * One file per patched class. Each file records the SHA-256 key it was written for; the key
+ * covers the original class bytes (so a new HytaleServer.jar misses), the Hyzer-early version
+ * and jar, and the config sections the transformers read (transformers, world,
+ * interactionTimeout). Any change gives a new key, the stale entry misses and is overwritten
+ * by the next transform - nothing has to be cleaned up by hand.
+ *
+ * A file that is truncated, corrupt or unreadable is treated as a miss. Cache errors never
+ * fail a transform.
+ */
+public class TransformCache {
+
+    private static final Path CACHE_DIR = Paths.get("mods", "hyzer", "cache");
+    private static final int MAGIC = 0x48595A43; // "HYZC"
+    private static final int FORMAT_VERSION = 1;
+    private static final int KEY_LENGTH = 32;
+
+    private final Path directory;
+    private final byte[] environment;
+
+    TransformCache(Path directory, byte[] environment) {
+        this.directory = directory;
+        this.environment = environment;
+    }
+
+    /**
+     * Cache for the current Hyzer-early build and config.
+     */
+    public static TransformCache create(EarlyPluginConfig config) {
+        String fingerprint = "version=" + getEarlyVersion()
+                + ";jar=" + getJarStamp()
+                + ";config=" + new Gson().toJson(new Object[] {
+                        config.transformers, config.world, config.interactionTimeout });
+        return new TransformCache(CACHE_DIR, fingerprint.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Key for one class: hash of the environment, class name and original bytes.
+     */
+    public byte[] key(String className, byte[] originalBytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(environment);
+            digest.update((byte) 0);
+            digest.update(className.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(originalBytes);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cached transformed bytes for this key, or null on a miss.
+     */
+    public byte[] load(String className, byte[] key) {
+        Path file = fileFor(className);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            byte[] storedKey = new byte[KEY_LENGTH];
+            in.readFully(storedKey);
+            if (!Arrays.equals(storedKey, key)) {
+                return null;
+            }
+            int length = in.readInt();
+            long checksum = in.readLong();
+            if (length <= 0 || length > 64 * 1024 * 1024) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return checksum == crc32(bytes) ? bytes : null;
+        } catch (IOException e) {
+            verbose("Transform cache read failed for " + className + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store transformed bytes. Written to a temp file and moved into place, so a crash
+     * mid-write never leaves a half-written entry behind.
+     */
+    public void store(String className, byte[] key, byte[] transformedBytes) {
+        Path file = fileFor(className);
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, className, ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.write(key);
+                out.writeInt(transformedBytes.length);
+                out.writeLong(crc32(transformedBytes));
+                out.write(transformedBytes);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            verbose("Transform cache write failed for " + className + ": " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path fileFor(String className) {
+        return directory.resolve(className + ".class.cache");
+    }
+
+    private static long crc32(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static String getEarlyVersion() {
+        String version = TransformCache.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+
+    /**
+     * Size and timestamp of the hyzer-early jar, so a rebuilt jar with an unchanged version
+     * number still invalidates the cache.
+     */
+    private static String getJarStamp() {
+        try {
+            var source = TransformCache.class.getProtectionDomain().getCodeSource();
+            if (source == null) {
+                return "unknown";
+            }
+            Path jar = Paths.get(source.getLocation().toURI());
+            return Files.size(jar) + "@" + Files.getLastModifiedTime(jar).toMillis();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
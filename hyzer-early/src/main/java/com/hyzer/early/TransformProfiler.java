@@ -0,0 +1,229 @@
+package com.hyzer.early;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * Startup profile of the early plugin, kept by {@link HyzerClassTransformer}.
+ *
+ * Records, per transformer, the wall time spent in transform(), how many classes it was given
+ * and the bytes in and out, plus the time the router spends on cache lookups and on classes
+ * it does not patch. Printed as one table and written to mods/hyzer/early-profile.json when
+ * boot completes - the runtime plugin sets the {@value #BOOT_COMPLETE_PROPERTY} system property
+ * from its start(). Without the runtime plugin the report is written at shutdown instead.
+ *
+ * Class loading runs on several threads at boot, so all counters are LongAdders.
+ */
+public class TransformProfiler {
+
+    public static final String BOOT_COMPLETE_PROPERTY = "hyzer.bootComplete";
+
+    private static final Path PROFILE_FILE = Paths.get("mods", "hyzer", "early-profile.json");
+    private static final long POLL_INTERVAL_MS = 1000L;
+
+    private final Map<TargetedClassTransformer, Counters> transformers = new IdentityHashMap<>();
+    private final Counters cache = new Counters();
+    private final Counters otherClasses = new Counters();
+    private final LongAdder cacheHits = new LongAdder();
+    private final AtomicBoolean reported = new AtomicBoolean(false);
+
+    TransformProfiler(Collection<TargetedClassTransformer> transformers) {
+        for (TargetedClassTransformer transformer : transformers) {
+            this.transformers.put(transformer, new Counters());
+        }
+    }
+
+    /**
+     * Start waiting for the end of boot. The watcher is a daemon thread that only polls a
+     * system property, so it never holds up startup or shutdown.
+     */
+    void start() {
+        Thread watcher = new Thread(() -> {
+            try {
+                while (!reported.get() && !Boolean.getBoolean(BOOT_COMPLETE_PROPERTY)) {
+                    Thread.sleep(POLL_INTERVAL_MS);
+                }
+                report("boot complete");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "Hyzer-Early-Profiler");
+        watcher.setDaemon(true);
+        watcher.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> report("shutdown"), "Hyzer-Early-Profiler-Shutdown"));
+    }
+
+    void recordTransform(TargetedClassTransformer transformer, long nanos, int bytesIn, int bytesOut) {
+        Counters counters = transformers.get(transformer);
+        if (counters != null) {
+            counters.record(nanos, bytesIn, bytesOut);
+        }
+    }
+
+    void recordCacheLookup(long nanos, boolean hit) {
+        cache.record(nanos, 0, 0);
+        if (hit) {
+            cacheHits.increment();
+        }
+    }
+
+    void recordCacheWrite(long nanos) {
+        cache.nanos.add(nanos);
+    }
+
+    void recordOtherClass(long nanos, int bytes) {
+        otherClasses.record(nanos, bytes, bytes);
+    }
+
+    /**
+     * Print the summary table and write the JSON report. Only the first call does anything.
+     */
+    void report(String trigger) {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Report report = buildReport(trigger);
+            printTable(report);
+            write(report);
+        } catch (Exception e) {
+            error("Failed to write startup profile: " + e.getMessage());
+        }
+    }
+
+    private Report buildReport(String trigger) {
+        Report report = new Report();
+        report.trigger = trigger;
+        report.jvmUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        for (Map.Entry<TargetedClassTransformer, Counters> entry : transformers.entrySet()) {
+            TransformerEntry row = entry.getValue().toEntry(entry.getKey().getClass().getSimpleName());
+            row.target = entry.getKey().getTargetClass();
+            report.transformers.add(row);
+            report.transformMs += row.timeMs;
+        }
+        report.transformers.sort(Comparator.comparingDouble((TransformerEntry row) -> row.timeMs).reversed()
+                .thenComparing(row -> row.name));
+
+        report.cacheLookups = cache.calls.sum();
+        report.cacheHits = cacheHits.sum();
+        report.cacheMs = cache.millis();
+        report.otherClasses = otherClasses.calls.sum();
+        report.otherClassesMs = otherClasses.millis();
+        report.otherClassesBytes = otherClasses.bytesIn.sum();
+        report.totalMs = round(report.transformMs + report.cacheMs + report.otherClassesMs);
+        report.transformMs = round(report.transformMs);
+        return report;
+    }
+
+    private static void printTable(Report report) {
+        separator();
+        info(String.format(Locale.ROOT, "Startup profile (%s, JVM up %.1fs)", report.trigger, report.jvmUptimeMs / 1000.0));
+        info(String.format(Locale.ROOT, "%-36s %8s %10s %12s %12s", "Transformer", "Classes", "Time ms", "Bytes in", "Bytes out"));
+        int idle = 0;
+        for (TransformerEntry row : report.transformers) {
+            if (row.classes == 0) {
+                idle++;
+                continue;
+            }
+            info(String.format(Locale.ROOT, "%-36s %8d %10.2f %12d %12d",
+                    row.name, row.classes, row.timeMs, row.bytesIn, row.bytesOut));
+        }
+        if (idle > 0) {
+            info(String.format(Locale.ROOT, "%-36s %8d", "(" + idle + " transformers not reached)", 0));
+        }
+        info(String.format(Locale.ROOT, "%-36s %8d %10.2f", "Transform cache (" + report.cacheHits + " hits)",
+                report.cacheLookups, report.cacheMs));
+        info(String.format(Locale.ROOT, "%-36s %8d %10.2f %12d", "Classes not patched",
+                report.otherClasses, report.otherClassesMs, report.otherClassesBytes));
+        info(String.format(Locale.ROOT, "%-36s %8s %10.2f", "Total", "", report.totalMs));
+        separator();
+    }
+
+    private static void write(Report report) throws IOException {
+        Files.createDirectories(PROFILE_FILE.getParent());
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(PROFILE_FILE, StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+        }
+        verbose("Startup profile written to " + PROFILE_FILE);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000.0) / 1000.0;
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder bytesIn = new LongAdder();
+        final LongAdder bytesOut = new LongAdder();
+
+        void record(long elapsed, int in, int out) {
+            calls.increment();
+            nanos.add(elapsed);
+            bytesIn.add(in);
+            bytesOut.add(out);
+        }
+
+        double millis() {
+            return round(nanos.sum() / 1_000_000.0);
+        }
+
+        TransformerEntry toEntry(String name) {
+            TransformerEntry row = new TransformerEntry();
+            row.name = name;
+            row.classes = calls.sum();
+            row.timeMs = millis();
+            row.bytesIn = bytesIn.sum();
+            row.bytesOut = bytesOut.sum();
+            return row;
+        }
+    }
+
+    /**
+     * JSON shape of mods/hyzer/early-profile.json
+     */
+    static class Report {
+        public String trigger;
+        public long jvmUptimeMs;
+        public double totalMs;
+        public double transformMs;
+        public long cacheLookups;
+        public long cacheHits;
+        public double cacheMs;
+        public long otherClasses;
+        public double otherClassesMs;
+        public long otherClassesBytes;
+        public List<TransformerEntry> transformers = new ArrayList<>();
+    }
+
+    static class TransformerEntry {
+        public String name;
+        public String target;
+        public long classes;
+        public double timeMs;
+        public long bytesIn;
+        public long bytesOut;
+    }
+}
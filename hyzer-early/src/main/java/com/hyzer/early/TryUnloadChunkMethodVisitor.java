@@ -0,0 +1,105 @@
+package com.hyzer.early;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static com.hyzer.early.EarlyLogger.*;
+
+/**
+ * ASM MethodVisitor that transforms ChunkTracker.tryUnloadChunk()
+ * to add a null check after each PlayerRef.getReference() call.
+ *
+ * The pattern we're looking for:
+ *   INVOKEVIRTUAL PlayerRef.getReference()Lcom/hypixel/hytale/component/Ref;
+ *   INVOKEVIRTUAL Ref.getStore()  -> CRASH if the reference is null!
+ *
+ * The fix: After INVOKEVIRTUAL getReference, inject:
+ *   DUP
+ *   IFNONNULL continue
+ *   [return the method's default value: nothing / false / 0]
+ *   continue:
+ *
+ * The extra reference left on the stack on the early-return path is discarded by the return.
+ *
+ * The guard only turns the crash into a skipped call. The stale PlayerRef stays in the tracker,
+ * so later calls skip too until the runtime ChunkTrackerSanitizer prunes it - the sanitizer stays
+ * registered (sampled) while this guard is active.
+ *
+ * Only methods returning void or a primitive are guarded. For a method returning an object,
+ * null is not a safe default - the caller would most likely dereference it instead - so the
+ * call is only reported to the owner as unguarded.
+ */
+public class TryUnloadChunkMethodVisitor extends MethodVisitor {
+
+    private static final String PLAYER_REF_OWNER = "com/hypixel/hytale/server/core/universe/PlayerRef";
+    private static final String GET_REFERENCE_METHOD = "getReference";
+
+    private final Type returnType;
+    private final boolean guardable;
+    private final ChunkTrackerVisitor owner;
+
+    public TryUnloadChunkMethodVisitor(MethodVisitor mv, String descriptor, ChunkTrackerVisitor owner) {
+        super(Opcodes.ASM9, mv);
+        this.returnType = Type.getReturnType(descriptor);
+        this.guardable = returnType.getSort() != Type.OBJECT && returnType.getSort() != Type.ARRAY;
+        this.owner = owner;
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String methodOwner, String name, String descriptor, boolean isInterface) {
+        super.visitMethodInsn(opcode, methodOwner, name, descriptor, isInterface);
+
+        if (!PLAYER_REF_OWNER.equals(methodOwner) || !GET_REFERENCE_METHOD.equals(name)
+                || !descriptor.startsWith("()L")) {
+            return;
+        }
+
+        if (!guardable) {
+            owner.guardSkipped();
+            return;
+        }
+
+        verbose("Injecting null check after " + methodOwner + "." + name + descriptor);
+
+        Label continueLabel = new Label();
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitJumpInsn(Opcodes.IFNONNULL, continueLabel);
+
+        // Player is gone - skip this call; the runtime sanitizer removes the stale ref
+        pushDefaultAndReturn();
+
+        mv.visitLabel(continueLabel);
+        owner.guardInjected();
+    }
+
+    private void pushDefaultAndReturn() {
+        switch (returnType.getSort()) {
+            case Type.VOID -> mv.visitInsn(Opcodes.RETURN);
+            case Type.BOOLEAN, Type.BYTE, Type.CHAR, Type.SHORT, Type.INT -> {
+                mv.visitInsn(Opcodes.ICONST_0);
+                mv.visitInsn(Opcodes.IRETURN);
+            }
+            case Type.LONG -> {
+                mv.visitInsn(Opcodes.LCONST_0);
+                mv.visitInsn(Opcodes.LRETURN);
+            }
+            case Type.FLOAT -> {
+                mv.visitInsn(Opcodes.FCONST_0);
+                mv.visitInsn(Opcodes.FRETURN);
+            }
+            case Type.DOUBLE -> {
+                mv.visitInsn(Opcodes.DCONST_0);
+                mv.visitInsn(Opcodes.DRETURN);
+            }
+            default -> throw new IllegalStateException("No default value for return type " + returnType);
+        }
+    }
+
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+        // DUP plus a two-slot default value
+        super.visitMaxs(maxStack + 2, maxLocals);
+    }
+}
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 
@@ -16,10 +15,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/28">GitHub Issue #28</a>
  */
-public class UUIDSystemTransformer implements ClassTransformer {
+public class UUIDSystemTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.storage.EntityStore$UUIDSystem";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -42,7 +46,7 @@ public class UUIDSystemTransformer implements ClassTransformer {
             info("Transforming: " + TARGET_CLASS);
 
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
 
             UUIDSystemVisitor visitor = new UUIDSystemVisitor(writer);
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
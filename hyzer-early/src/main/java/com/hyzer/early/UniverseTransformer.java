@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 
@@ -18,10 +17,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/Hyzenkernel/issues/34">GitHub Issue #34</a>
  */
-public class UniverseTransformer implements ClassTransformer {
+public class UniverseTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.Universe";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -43,7 +47,7 @@ public class UniverseTransformer implements ClassTransformer {
             verbose("Fixing removePlayer() memory leak (Issue #34)");
 
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
 
             UniverseVisitor visitor = new UniverseVisitor(writer);
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -14,11 +13,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * Ensures WorldConfig.setSpawnProvider() marks the config as changed so
  * spawn providers are persisted to disk (prevents return portal drift).
  */
-public class WorldConfigSpawnProviderTransformer implements ClassTransformer {
+public class WorldConfigSpawnProviderTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.server.core.universe.world.WorldConfig";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -42,7 +46,9 @@ public class WorldConfigSpawnProviderTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            // Only appends markChanged() before each exit - no new branches, so the original
+            // frames stay valid and are written back as-is instead of being recomputed
+            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new WorldConfigSpawnProviderVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
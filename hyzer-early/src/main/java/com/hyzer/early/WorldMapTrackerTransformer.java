@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
@@ -31,10 +30,15 @@ import static com.hyzer.early.EarlyLogger.*;
  *
  * GitHub Issue: https://github.com/DuvyDev/Hyzenkernel/issues/16
  */
-public class WorldMapTrackerTransformer implements ClassTransformer {
+public class WorldMapTrackerTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.WorldMapTracker";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -59,7 +63,7 @@ public class WorldMapTrackerTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new WorldMapTrackerVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
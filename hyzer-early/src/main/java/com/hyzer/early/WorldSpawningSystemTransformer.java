@@ -1,7 +1,6 @@
 package com.hyzer.early;
 
 import com.hyzer.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -18,11 +17,16 @@ import static com.hyzer.early.EarlyLogger.*;
  * Wrap pickRandomChunk() in a try-catch for IllegalStateException and return null
  * so the spawn job is skipped instead of crashing the WorldThread.
  */
-public class WorldSpawningSystemTransformer implements ClassTransformer {
+public class WorldSpawningSystemTransformer implements TargetedClassTransformer {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.server.spawning.world.system.WorldSpawningSystem";
 
+    @Override
+    public String getTargetClass() {
+        return TARGET_CLASS;
+    }
+
     @Override
     public int priority() {
         return 100;
@@ -47,7 +51,7 @@ public class WorldSpawningSystemTransformer implements ClassTransformer {
 
         try {
             ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
             ClassVisitor visitor = new WorldSpawningSystemVisitor(writer);
 
             reader.accept(visitor, ClassReader.EXPAND_FRAMES);
@@ -143,6 +143,7 @@ public class EarlyConfigManager {
             case "staticsharedinstances" -> t.staticSharedInstances;
             case "gamepackethandler" -> t.gamePacketHandler;
             case "blockhealthsystem" -> t.blockHealthSystem;
+            case "chunktracker" -> t.chunkTracker;
             default -> {
                 System.err.println("[Hyzer-Early-Config] Unknown transformer: " + name);
                 yield true; // Default to enabled for safety
@@ -157,6 +158,20 @@ public class EarlyConfigManager {
         return config.early.logging.verbose;
     }
 
+    /**
+     * Check if transformed classes are cached in mods/hyzer/cache.
+     */
+    public boolean isTransformCacheEnabled() {
+        return config.early.cache == null || config.early.cache.enabled;
+    }
+
+    /**
+     * Check if startup transform timings are reported to mods/hyzer/early-profile.json.
+     */
+    public boolean isTransformProfileEnabled() {
+        return config.early.profile == null || config.early.profile.enabled;
+    }
+
     // ============================================
     // World transformer settings
     // ============================================
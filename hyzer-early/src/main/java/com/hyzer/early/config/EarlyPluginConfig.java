@@ -42,6 +42,7 @@ public class EarlyPluginConfig {
         public boolean staticSharedInstances = true;
         public boolean gamePacketHandler = true;
         public boolean blockHealthSystem = true;
+        public boolean chunkTracker = true;
     }
 
     /**
@@ -57,6 +58,8 @@ public class EarlyPluginConfig {
      */
     public static class EarlyConfig {
         public EarlyLoggingConfig logging = new EarlyLoggingConfig();
+        public EarlyCacheConfig cache = new EarlyCacheConfig();
+        public EarlyProfileConfig profile = new EarlyProfileConfig();
     }
 
     /**
@@ -66,6 +69,20 @@ public class EarlyPluginConfig {
         public boolean verbose = false;
     }
 
+    /**
+     * Early plugin transformed-bytecode cache (mods/hyzer/cache)
+     */
+    public static class EarlyCacheConfig {
+        public boolean enabled = true;
+    }
+
+    /**
+     * Early plugin startup profile (mods/hyzer/early-profile.json)
+     */
+    public static class EarlyProfileConfig {
+        public boolean enabled = true;
+    }
+
     /**
      * Interaction timeout configuration
      * Controls how long the server waits for client responses during interactions
@@ -0,0 +1,310 @@
+package com.hyzer.early;
+
+import com.hyzer.early.config.EarlyConfigManager;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.util.CheckClassAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Offline check of every Hyzer transformer against a HytaleServer.jar.
+ *
+ * Run with: ./gradlew verifyTransformers [-PserverJar=/path/to/HytaleServer.jar]
+ *
+ * Each target class is read from the jar and passed through its transformers in the same
+ * order HyzerClassTransformer uses. The result is then:
+ * - checked by CheckClassAdapter (structure) and Analyzer/SimpleVerifier (types, stack, frames)
+ * - compared method by method against the original bytecode size
+ * - flagged where a method grows past a HotSpot JIT limit: MaxInlineSize (35 bytes, callees
+ *   inlined regardless of call frequency), FreqInlineSize (325 bytes, hot callees) and
+ *   HugeMethodLimit (8000 bytes, never compiled)
+ * - timed, as the median of repeated transforms
+ *
+ * Exits non-zero if a target is missing from the jar or verification fails. Classes a transformer
+ * leaves unchanged (disabled, deliberately skipped, pattern not found) and limit crossings are
+ * reported as warnings, with the transformer's own log for the unchanged ones.
+ */
+public final class TransformerVerifier {
+
+    private static final int MAX_INLINE_SIZE = 35;
+    private static final int FREQ_INLINE_SIZE = 325;
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int TIMED_RUNS = 25;
+
+    private final JarFile jar;
+    private final ClassLoader loader;
+    private int patched = 0;
+    private int unpatched = 0;
+    private int failures = 0;
+    private int flagged = 0;
+
+    private TransformerVerifier(JarFile jar, ClassLoader loader) {
+        this.jar = jar;
+        this.loader = loader;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TransformerVerifier <HytaleServer.jar>");
+            System.exit(2);
+        }
+        Path jarPath = Paths.get(args[0]);
+        if (!Files.isRegularFile(jarPath)) {
+            System.err.println("Server jar not found: " + jarPath.toAbsolutePath());
+            System.exit(2);
+        }
+
+        // Load the config first so its banner is not mistaken for a transformer's log
+        EarlyConfigManager.getInstance();
+        Map<String, TargetedClassTransformer[]> routes =
+                HyzerClassTransformer.buildRoutes(HyzerClassTransformer.createTransformers());
+
+        // The server jar is on this task's classpath, so SimpleVerifier and the
+        // ClassHierarchyIndex resolve server types through the application loader
+        TransformerVerifier verifier;
+        try (JarFile jar = new JarFile(jarPath.toFile())) {
+            verifier = new TransformerVerifier(jar, TransformerVerifier.class.getClassLoader());
+            System.out.println("Verifying " + routes.size() + " target classes against " + jarPath.toAbsolutePath());
+            for (String target : new TreeSet<>(routes.keySet())) {
+                verifier.check(target, routes.get(target));
+            }
+        }
+
+        System.out.println();
+        System.out.println(verifier.patched + " of " + routes.size() + " classes patched, "
+                + verifier.unpatched + " left unchanged, " + verifier.failures + " failure(s), "
+                + verifier.flagged + " method(s) over a JIT limit");
+        System.exit(verifier.failures > 0 ? 1 : 0);
+    }
+
+    private void check(String target, TargetedClassTransformer[] chain) throws IOException {
+        System.out.println();
+        System.out.println("== " + target + " (" + describe(chain) + ")");
+
+        JarEntry entry = jar.getJarEntry(target.replace('.', '/') + ".class");
+        if (entry == null) {
+            System.out.println("  FAIL: not found in jar");
+            failures++;
+            return;
+        }
+        byte[] original;
+        try (InputStream in = jar.getInputStream(entry)) {
+            original = in.readAllBytes();
+        }
+        String packageName = target.substring(0, Math.max(target.lastIndexOf('.'), 0));
+
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        PrintStream logStream = new PrintStream(log, true, StandardCharsets.UTF_8);
+        byte[] transformed = apply(target, packageName, chain, original, logStream);
+        if (Arrays.equals(original, transformed)) {
+            // Transformers return the original bytes when disabled, when their pattern is not found
+            // or when they throw - their own log says which
+            System.out.println("  WARN: left unchanged");
+            for (String line : log.toString(StandardCharsets.UTF_8).split("\\R")) {
+                if (!line.isBlank() && !line.contains("=====")) {
+                    System.out.println("    " + line);
+                }
+            }
+            unpatched++;
+            return;
+        }
+        patched++;
+
+        String problems = verify(transformed);
+        if (problems.isEmpty()) {
+            System.out.println("  Verified: CheckClassAdapter + Analyzer OK");
+        } else {
+            System.out.println("  FAIL: verification errors");
+            for (String line : problems.split("\\R")) {
+                System.out.println("    " + line);
+            }
+            failures++;
+        }
+
+        compareMethodSizes(original, transformed);
+
+        long median = medianNanos(target, packageName, chain, original);
+        System.out.println(String.format(Locale.ROOT, "  Transform time: %.1f us (median of %d), %d -> %d bytes",
+                median / 1000.0, TIMED_RUNS, original.length, transformed.length));
+    }
+
+    private String verify(byte[] classBytes) {
+        StringWriter output = new StringWriter();
+        PrintWriter writer = new PrintWriter(output);
+        ClassReader reader = new ClassReader(classBytes);
+        try {
+            reader.accept(new CheckClassAdapter(new ClassNode(), true), 0);
+        } catch (RuntimeException e) {
+            writer.println("CheckClassAdapter: " + e);
+        }
+        try {
+            CheckClassAdapter.verify(reader, loader, false, writer);
+        } catch (RuntimeException | LinkageError e) {
+            writer.println("Analyzer: " + e);
+        }
+        writer.flush();
+        return output.toString().trim();
+    }
+
+    private void compareMethodSizes(byte[] original, byte[] transformed) {
+        Map<String, Integer> before = codeSizes(original);
+        Map<String, Integer> after = codeSizes(transformed);
+
+        System.out.println(String.format(Locale.ROOT, "  %-70s %7s %7s %7s", "Method", "Before", "After", "Delta"));
+        int changed = 0;
+        for (Map.Entry<String, Integer> method : after.entrySet()) {
+            Integer oldSize = before.get(method.getKey());
+            int newSize = method.getValue();
+            if (oldSize != null && oldSize == newSize) {
+                continue;
+            }
+            changed++;
+            int baseline = oldSize != null ? oldSize : 0;
+            String flags = limitFlags(baseline, newSize);
+            if (!flags.isEmpty()) {
+                flagged++;
+            }
+            System.out.println(String.format(Locale.ROOT, "  %-70s %7s %7d %+7d%s",
+                    truncate(method.getKey(), 70), oldSize != null ? oldSize.toString() : "new",
+                    newSize, newSize - baseline, flags));
+        }
+        for (String method : before.keySet()) {
+            if (!after.containsKey(method)) {
+                changed++;
+                System.out.println(String.format(Locale.ROOT, "  %-70s %7d %7s", truncate(method, 70), before.get(method), "removed"));
+            }
+        }
+        if (changed == 0) {
+            System.out.println("  (no method changed size)");
+        }
+    }
+
+    private static String limitFlags(int before, int after) {
+        StringBuilder flags = new StringBuilder();
+        if (before <= MAX_INLINE_SIZE && after > MAX_INLINE_SIZE) {
+            flags.append("  ! crosses MaxInlineSize (" + MAX_INLINE_SIZE + ")");
+        }
+        if (before <= FREQ_INLINE_SIZE && after > FREQ_INLINE_SIZE) {
+            flags.append("  ! crosses FreqInlineSize (" + FREQ_INLINE_SIZE + ")");
+        }
+        if (before <= HUGE_METHOD_LIMIT && after > HUGE_METHOD_LIMIT) {
+            flags.append("  ! crosses HugeMethodLimit (" + HUGE_METHOD_LIMIT + ") - will not be JIT compiled");
+        }
+        return flags.toString();
+    }
+
+    /**
+     * Bytecode length (Code attribute code_length) of every method with a body, keyed by
+     * name + descriptor. ASM's tree API does not expose it, so the method table is walked
+     * directly.
+     */
+    private static Map<String, Integer> codeSizes(byte[] classBytes) {
+        ClassReader reader = new ClassReader(classBytes);
+        char[] buffer = new char[reader.getMaxStringLength()];
+        int offset = reader.header + 6;
+        offset += 2 + 2 * reader.readUnsignedShort(offset); // interfaces
+        offset = skipMembers(reader, offset);               // fields
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        int methodCount = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < methodCount; i++) {
+            String name = reader.readUTF8(offset + 2, buffer);
+            String descriptor = reader.readUTF8(offset + 4, buffer);
+            int attributeCount = reader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributeCount; j++) {
+                String attribute = reader.readUTF8(offset, buffer);
+                int length = reader.readInt(offset + 2);
+                if ("Code".equals(attribute)) {
+                    // attribute header (6), max_stack (2), max_locals (2), then code_length
+                    sizes.put(name + descriptor, reader.readInt(offset + 10));
+                }
+                offset += 6 + length;
+            }
+        }
+        return sizes;
+    }
+
+    private static int skipMembers(ClassReader reader, int offset) {
+        int count = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            int attributeCount = reader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributeCount; j++) {
+                offset += 6 + reader.readInt(offset + 2);
+            }
+        }
+        return offset;
+    }
+
+    private static long medianNanos(String target, String packageName, TargetedClassTransformer[] chain, byte[] original) {
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            apply(target, packageName, chain, original, silent);
+        }
+        long[] samples = new long[TIMED_RUNS];
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            long start = System.nanoTime();
+            apply(target, packageName, chain, original, silent);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[TIMED_RUNS / 2];
+    }
+
+    /**
+     * Run the chain like HyzerClassTransformer does, with the transformers' progress log
+     * redirected to {@code log}. Errors still go to stderr.
+     */
+    private static byte[] apply(String target, String packageName, TargetedClassTransformer[] chain,
+                                byte[] original, PrintStream log) {
+        PrintStream out = System.out;
+        System.setOut(log);
+        try {
+            byte[] bytes = original;
+            for (TargetedClassTransformer transformer : chain) {
+                bytes = transformer.transform(target, packageName, bytes);
+            }
+            return bytes;
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static String describe(TargetedClassTransformer[] chain) {
+        StringBuilder names = new StringBuilder();
+        for (TargetedClassTransformer transformer : chain) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(transformer.getClass().getSimpleName());
+        }
+        return names.toString();
+    }
+
+    private static String truncate(String text, int max) {
+        return text.length() <= max ? text : text.substring(0, max - 3) + "...";
+    }
+}
@@ -18,17 +18,30 @@ import com.hyzer.listeners.SharedInstanceBootUnloader;
 import com.hyzer.listeners.SpawnBeaconSanitizer;
 import com.hyzer.listeners.ChunkTrackerSanitizer;
 import com.hyzer.optimization.ActiveChunkUnloader;
+import com.hyzer.optimization.ChunkTickLodSystem;
 import com.hyzer.optimization.FluidFixerService;
+import com.hyzer.optimization.LoadGovernor;
 import com.hyzer.optimization.PerPlayerHotRadiusService;
+import com.hyzer.optimization.TickTimeSampler;
 import com.hyzer.optimization.TpsAdjuster;
 import com.hyzer.optimization.ViewRadiusAdjuster;
+import com.hyzer.optimization.WorldHibernationService;
 import com.hyzer.systems.InteractionChainMonitor;
+import com.hyzer.systems.PlayerCheck;
+import com.hyzer.systems.PlayerCheckScheduler;
+import com.hyzer.systems.PlayerSanitizerSystem;
 import com.hyzer.systems.SharedInstancePersistenceSystem;
+import com.hyzer.systems.SystemCostMonitor;
+import com.hyzer.systems.SystemCostSampler;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -55,6 +68,8 @@ import java.util.logging.Level;
  */
 public class Hyzer extends JavaPlugin {
 
+    private static final String BOOT_COMPLETE_PROPERTY = "hyzer.bootComplete";
+
     private static Hyzer instance;
     private InstancePositionTracker instancePositionTracker;
     private GatherObjectiveTaskSanitizer gatherObjectiveTaskSanitizer;
@@ -65,17 +80,26 @@ public class Hyzer extends JavaPlugin {
     private ChunkTrackerSanitizer chunkTrackerSanitizer;
     private DefaultWorldRecoverySanitizer defaultWorldRecoverySanitizer;
     private SharedInstanceBootUnloader sharedInstanceBootUnloader;
+    private PlayerSanitizerSystem playerSanitizerSystem;
+    private final List<PlayerCheck> pendingPlayerChecks = new ArrayList<>();
 
     private ViewRadiusAdjuster viewRadiusAdjuster;
     private PerPlayerHotRadiusService perPlayerHotRadiusService;
     private ActiveChunkUnloader activeChunkUnloader;
     private FluidFixerService fluidFixerService;
     private TpsAdjuster tpsAdjuster;
+    private LoadGovernor loadGovernor;
+    private WorldHibernationService worldHibernationService;
+    private ChunkTickLodSystem chunkTickLodSystem;
 
     private ScheduledFuture<?> viewRadiusTask;
     private ScheduledFuture<?> perPlayerTask;
     private ScheduledFuture<?> activeChunkTask;
+    private ScheduledFuture<?> activeChunkSliceTask;
     private ScheduledFuture<?> tpsTask;
+    private ScheduledFuture<?> governorTask;
+    private ScheduledFuture<?> hibernationScanTask;
+    private ScheduledFuture<?> systemCostTask;
 
     public Hyzer(@Nonnull JavaPluginInit init) {
         super(init);
@@ -110,6 +134,9 @@ public class Hyzer extends JavaPlugin {
     private void registerBugFixes() {
         ConfigManager config = ConfigManager.getInstance();
 
+        // Must come before the systems below create their cost probes
+        SystemCostMonitor.configure(config.getConfig().systemCost);
+
         // Fix 1: RespawnBlock null respawnPoints crash
         // Hytale's RespawnBlock$OnRemove.onEntityRemove() crashes if respawnPoints is null
         if (config.isSanitizerEnabled("respawnBlock")) {
@@ -132,7 +159,7 @@ public class Hyzer extends JavaPlugin {
         // Monitors for entities with invalid state (empty archetypes)
         if (config.isSanitizerEnabled("emptyArchetype")) {
             getEntityStoreRegistry().registerSystem(new EmptyArchetypeSanitizer(this));
-            getLogger().at(Level.INFO).log("[FIX] EmptyArchetypeSanitizer registered - monitors for invalid entity states");
+            getLogger().at(Level.INFO).log("[FIX] EmptyArchetypeSanitizer registered - periodically audits for invalid entity states");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] EmptyArchetypeSanitizer - disabled via config");
         }
@@ -162,7 +189,7 @@ public class Hyzer extends JavaPlugin {
         // Validates refs in quest objectives before they can crash
         if (config.isSanitizerEnabled("gatherObjective")) {
             gatherObjectiveTaskSanitizer = new GatherObjectiveTaskSanitizer(this);
-            getEntityStoreRegistry().registerSystem(gatherObjectiveTaskSanitizer);
+            registerPlayerCheck(gatherObjectiveTaskSanitizer);
             getLogger().at(Level.INFO).log("[FIX] GatherObjectiveTaskSanitizer registered - prevents crash from null refs in quest objectives");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] GatherObjectiveTaskSanitizer - disabled via config");
@@ -171,14 +198,14 @@ public class Hyzer extends JavaPlugin {
         // Fix 7: InteractionChain monitoring (v1.3.0)
         // Tracks unfixable Hytale bugs for reporting to developers
         interactionChainMonitor = new InteractionChainMonitor(this);
-        getEntityStoreRegistry().registerSystem(interactionChainMonitor);
+        registerPlayerCheck(interactionChainMonitor);
         getLogger().at(Level.INFO).log("[MON] InteractionChainMonitor registered - tracks Hyzer statistics");
 
         // Fix 8: CraftingManager bench already set crash (v1.3.1)
         // Clears stale bench references before they cause IllegalArgumentException
         if (config.isSanitizerEnabled("craftingManager")) {
             craftingManagerSanitizer = new CraftingManagerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(craftingManagerSanitizer);
+            registerPlayerCheck(craftingManagerSanitizer);
             getLogger().at(Level.INFO).log("[FIX] CraftingManagerSanitizer registered - prevents bench already set crash");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] CraftingManagerSanitizer - disabled via config");
@@ -189,7 +216,7 @@ public class Hyzer extends JavaPlugin {
         // Validates interaction chains and removes ones with null context before they cause NPE
         if (config.isSanitizerEnabled("interactionManager")) {
             interactionManagerSanitizer = new InteractionManagerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(interactionManagerSanitizer);
+            registerPlayerCheck(interactionManagerSanitizer);
             getLogger().at(Level.INFO).log("[FIX] InteractionManagerSanitizer registered - prevents crafttable interaction crash");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] InteractionManagerSanitizer - disabled via config");
@@ -226,18 +253,61 @@ public class Hyzer extends JavaPlugin {
         // Fix 12: ChunkTracker null PlayerRef crash (v1.3.9)
         // GitHub Issue: https://github.com/DuvyDev/Hyzenkernel/issues/6
         // Prevents world crash when ChunkTracker has invalid PlayerRefs after player disconnect
+        // Sampled when the early plugin has null-guarded ChunkTracker.tryUnloadChunk() itself: the
+        // guard stops the crash, but only this sanitizer removes the stale refs
         if (config.isSanitizerEnabled("chunkTracker")) {
-            chunkTrackerSanitizer = new ChunkTrackerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(chunkTrackerSanitizer);
-            getLogger().at(Level.INFO).log("[FIX] ChunkTrackerSanitizer registered - prevents crash from invalid PlayerRefs after player disconnect");
+            boolean earlyGuard = ChunkTrackerSanitizer.isEarlyGuardActive();
+            chunkTrackerSanitizer = new ChunkTrackerSanitizer(this, earlyGuard);
+            registerPlayerCheck(chunkTrackerSanitizer);
+            if (earlyGuard) {
+                getLogger().at(Level.INFO).log("[FIX] ChunkTrackerSanitizer registered (sampled) - tryUnloadChunk is null-guarded by the early plugin, invalid PlayerRefs are still pruned");
+            } else {
+                getLogger().at(Level.INFO).log("[FIX] ChunkTrackerSanitizer registered - prevents crash from invalid PlayerRefs after player disconnect");
+            }
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] ChunkTrackerSanitizer - disabled via config");
         }
 
+        // Run the Player-query sanitizers above in a single pass over the players
+        if (!pendingPlayerChecks.isEmpty()) {
+            var scheduling = config.getConfig().playerCheckScheduling;
+            PlayerCheckScheduler scheduler = null;
+            if (scheduling != null && scheduling.enabled) {
+                scheduler = new PlayerCheckScheduler(scheduling);
+                getEntityStoreRegistry().registerSystem(scheduler);
+                getLogger().at(Level.INFO).log("[OPT] PlayerCheckScheduler enabled - sampled checks see 1/N players per tick, N=" +
+                        Math.max(scheduling.minInterval, 1) + ".." + Math.max(scheduling.maxInterval, scheduling.minInterval));
+            }
+            playerSanitizerSystem = new PlayerSanitizerSystem(this, pendingPlayerChecks, scheduler);
+            pendingPlayerChecks.clear();
+            getEntityStoreRegistry().registerSystem(playerSanitizerSystem);
+            getLogger().at(Level.INFO).log("[OPT] PlayerSanitizerSystem registered - " +
+                    playerSanitizerSystem.getCheckCount() + " player checks fused: " + playerSanitizerSystem.getCheckNames());
+        }
+
+        // Count world ticks so the sampled system costs can be reported per tick
+        if (SystemCostMonitor.isEnabled()) {
+            getEntityStoreRegistry().registerSystem(new SystemCostSampler());
+            getLogger().at(Level.INFO).log("[MON] SystemCostMonitor enabled - timing 1 in " +
+                    SystemCostMonitor.getSampleEvery() + " calls of Hyzer's systems");
+        }
+
         // Register admin commands
         registerCommands();
     }
 
+    /**
+     * Register a system that queries Player. With sanitizers.fusePlayerChecks on (the default)
+     * it is queued for the fused PlayerSanitizerSystem instead of walking the players itself.
+     */
+    private <T extends EntityTickingSystem<EntityStore> & PlayerCheck> void registerPlayerCheck(T system) {
+        if (ConfigManager.getInstance().isFusePlayerChecks()) {
+            pendingPlayerChecks.add(system);
+        } else {
+            getEntityStoreRegistry().registerSystem(system);
+        }
+    }
+
     private void registerOptimizations() {
         ConfigManager configManager = ConfigManager.getInstance();
         var optimization = configManager.getConfig().optimization;
@@ -254,7 +324,11 @@ public class Hyzer extends JavaPlugin {
             getLogger().at(Level.INFO).log("[DISABLED] FluidFixer - disabled via config");
         }
 
-        if (optimization.tps != null && optimization.tps.enabled) {
+        boolean governorEnabled = optimization.governor != null && optimization.governor.enabled;
+
+        if (governorEnabled) {
+            getLogger().at(Level.INFO).log("[DISABLED] ViewRadiusAdjuster - replaced by LoadGovernor");
+        } else if (optimization.tps != null && optimization.tps.enabled) {
             viewRadiusAdjuster = new ViewRadiusAdjuster(getLogger(), optimization);
             getLogger().at(Level.INFO).log("[OPT] ViewRadiusAdjuster enabled - dynamic view radius by TPS");
         } else {
@@ -268,6 +342,19 @@ public class Hyzer extends JavaPlugin {
             getLogger().at(Level.INFO).log("[DISABLED] TpsAdjuster - disabled via config");
         }
 
+        if (optimization.hibernation != null && optimization.hibernation.enabled) {
+            int awakeTps = tpsAdjuster != null ? optimization.tpsAdjuster.tpsLimit : 0;
+            worldHibernationService = new WorldHibernationService(getLogger(), optimization.hibernation, awakeTps);
+            worldHibernationService.register(getEventRegistry());
+            if (tpsAdjuster != null) {
+                tpsAdjuster.setHibernation(worldHibernationService);
+            }
+            getLogger().at(Level.INFO).log("[OPT] WorldHibernation enabled - empty worlds drop to "
+                    + Math.max(optimization.hibernation.hibernateTps, 1) + " TPS until a player joins");
+        } else {
+            getLogger().at(Level.INFO).log("[DISABLED] WorldHibernation - disabled via config");
+        }
+
         if (optimization.perPlayerRadius != null && optimization.perPlayerRadius.enabled) {
             perPlayerHotRadiusService = new PerPlayerHotRadiusService(getLogger(), optimization.perPlayerRadius);
             getLogger().at(Level.INFO).log("[OPT] PerPlayerHotRadius enabled - dynamic hot radius by TPS");
@@ -275,12 +362,41 @@ public class Hyzer extends JavaPlugin {
             getLogger().at(Level.INFO).log("[DISABLED] PerPlayerHotRadius - disabled via config");
         }
 
+        if (optimization.tickLod != null && optimization.tickLod.enabled) {
+            int fallbackHotRadius = optimization.perPlayerRadius != null ? optimization.perPlayerRadius.maxRadius : 6;
+            chunkTickLodSystem = new ChunkTickLodSystem(getLogger(), optimization.tickLod,
+                    worldName -> perPlayerHotRadiusService != null
+                            ? perPlayerHotRadiusService.getCurrentTargetRadius(worldName)
+                            : fallbackHotRadius);
+            getChunkStoreRegistry().registerSystem(chunkTickLodSystem);
+            if (worldHibernationService != null) {
+                worldHibernationService.setChunkTickLod(chunkTickLodSystem);
+            }
+            getLogger().at(Level.INFO).log("[OPT] ChunkTickLod enabled - reduced tick rate outside the hot radius");
+        } else {
+            getLogger().at(Level.INFO).log("[DISABLED] ChunkTickLod - disabled via config");
+        }
+
+        if (optimization.tickHistogram != null && optimization.tickHistogram.enabled) {
+            TickTimeSampler tickTimeSampler = new TickTimeSampler();
+            tickTimeSampler.chunkStoreSystems().forEach(getChunkStoreRegistry()::registerSystem);
+            tickTimeSampler.entityStoreSystems().forEach(getEntityStoreRegistry()::registerSystem);
+            getLogger().at(Level.INFO).log("[OPT] TickHistogram enabled - per-world p50/p95/p99/max tick times");
+        } else {
+            getLogger().at(Level.INFO).log("[DISABLED] TickHistogram - disabled via config");
+        }
+
         if (optimization.chunkUnloader != null && optimization.chunkUnloader.enabled) {
             activeChunkUnloader = new ActiveChunkUnloader(getLogger(), optimization);
             getLogger().at(Level.INFO).log("[OPT] ActiveChunkUnloader enabled - safe unload of distant chunks");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] ActiveChunkUnloader - disabled via config");
         }
+
+        if (governorEnabled) {
+            loadGovernor = new LoadGovernor(getLogger(), optimization, perPlayerHotRadiusService, activeChunkUnloader);
+            getLogger().at(Level.INFO).log("[OPT] LoadGovernor enabled - view radius, hot radius and unload aggressiveness driven by one controller");
+        }
     }
 
     private void registerCommands() {
@@ -296,10 +412,32 @@ public class Hyzer extends JavaPlugin {
     protected void start() {
         getLogger().at(Level.INFO).log("Hyzer has started! " + getFixCount() + " bug fix(es) active.");
 
+        // Tells the early plugin that boot is over so it can report its startup profile
+        System.setProperty(BOOT_COMPLETE_PROPERTY, "true");
+
         if (fluidFixerService != null) {
             fluidFixerService.apply(getEventRegistry());
         }
 
+        var systemCost = ConfigManager.getInstance().getConfig().systemCost;
+        if (SystemCostMonitor.isEnabled() && systemCost != null && systemCost.logIntervalSeconds > 0) {
+            long intervalSeconds = Math.max(systemCost.logIntervalSeconds, 10);
+            systemCostTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                    () -> {
+                        try {
+                            String summary = SystemCostMonitor.formatSinceLastReport();
+                            if (summary != null) {
+                                getLogger().at(Level.INFO).log("[SystemCost] " + summary);
+                            }
+                        } catch (Exception e) {
+                            getLogger().atSevere().withCause(e).log("Error in SystemCostMonitor");
+                        }
+                    },
+                    intervalSeconds,
+                    intervalSeconds,
+                    TimeUnit.SECONDS);
+        }
+
         var optimization = ConfigManager.getInstance().getConfig().optimization;
         if (optimization != null && optimization.enabled) {
             if (viewRadiusAdjuster != null) {
@@ -333,7 +471,21 @@ public class Hyzer extends JavaPlugin {
                         TimeUnit.SECONDS);
             }
 
-            if (perPlayerHotRadiusService != null) {
+            if (worldHibernationService != null) {
+                // Worlds that never see a player leave still get put to sleep once
+                hibernationScanTask = HytaleServer.SCHEDULED_EXECUTOR.schedule(
+                        () -> {
+                            try {
+                                worldHibernationService.hibernateEmptyWorlds();
+                            } catch (Exception e) {
+                                getLogger().atSevere().withCause(e).log("Error in WorldHibernation");
+                            }
+                        },
+                        30,
+                        TimeUnit.SECONDS);
+            }
+
+            if (perPlayerHotRadiusService != null && loadGovernor == null) {
                 long intervalMs = Math.max(optimization.checkIntervalMillis, 1000);
                 perPlayerTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
                         () -> {
@@ -348,6 +500,21 @@ public class Hyzer extends JavaPlugin {
                         TimeUnit.MILLISECONDS);
             }
 
+            if (loadGovernor != null) {
+                long intervalMs = Math.max(optimization.governor.intervalMillis, 500);
+                governorTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                        () -> {
+                            try {
+                                loadGovernor.evaluate();
+                            } catch (Exception e) {
+                                getLogger().atSevere().withCause(e).log("Error in LoadGovernor");
+                            }
+                        },
+                        10_000,
+                        intervalMs,
+                        TimeUnit.MILLISECONDS);
+            }
+
             if (activeChunkUnloader != null) {
                 long intervalSeconds = Math.max(optimization.chunkUnloader.intervalSeconds, 1);
                 activeChunkTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
@@ -361,6 +528,19 @@ public class Hyzer extends JavaPlugin {
                         60,
                         intervalSeconds,
                         TimeUnit.SECONDS);
+
+                long sliceIntervalMs = Math.max(optimization.chunkUnloader.sliceIntervalMillis, 10);
+                activeChunkSliceTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                        () -> {
+                            try {
+                                activeChunkUnloader.tick();
+                            } catch (Exception e) {
+                                getLogger().atSevere().withCause(e).log("Error in ActiveChunkUnloader slice");
+                            }
+                        },
+                        60_000,
+                        sliceIntervalMs,
+                        TimeUnit.MILLISECONDS);
             }
         }
     }
@@ -381,13 +561,35 @@ public class Hyzer extends JavaPlugin {
         if (activeChunkTask != null) {
             activeChunkTask.cancel(false);
         }
+        if (activeChunkSliceTask != null) {
+            activeChunkSliceTask.cancel(false);
+        }
+        if (governorTask != null) {
+            governorTask.cancel(false);
+        }
+        if (hibernationScanTask != null) {
+            hibernationScanTask.cancel(false);
+        }
+        if (systemCostTask != null) {
+            systemCostTask.cancel(false);
+        }
 
         if (viewRadiusAdjuster != null) {
             viewRadiusAdjuster.restore();
         }
+        // Before waking hibernating worlds, so the release runs as soon as they tick again
+        if (chunkTickLodSystem != null) {
+            chunkTickLodSystem.restore();
+        }
+        if (worldHibernationService != null) {
+            worldHibernationService.restore();
+        }
         if (tpsAdjuster != null) {
             tpsAdjuster.restore();
         }
+        if (loadGovernor != null) {
+            loadGovernor.restore();
+        }
     }
 
     private int getFixCount() {
@@ -410,6 +612,13 @@ public class Hyzer extends JavaPlugin {
         return gatherObjectiveTaskSanitizer;
     }
 
+    /**
+     * Get the fused PlayerSanitizerSystem, or null when the player checks run as separate systems.
+     */
+    public PlayerSanitizerSystem getPlayerSanitizerSystem() {
+        return playerSanitizerSystem;
+    }
+
     /**
      * Get the InteractionChainMonitor for commands and status.
      */
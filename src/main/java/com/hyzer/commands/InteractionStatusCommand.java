@@ -6,13 +6,19 @@ import com.hyzer.listeners.GatherObjectiveTaskSanitizer;
 import com.hyzer.listeners.InteractionManagerSanitizer;
 import com.hyzer.listeners.SpawnBeaconSanitizer;
 import com.hyzer.listeners.ChunkTrackerSanitizer;
+import com.hyzer.config.ConfigManager;
+import com.hyzer.optimization.TpsMonitor;
 import com.hyzer.systems.InteractionChainMonitor;
+import com.hyzer.systems.PlayerCheckScheduler;
+import com.hyzer.systems.PlayerSanitizerSystem;
+import com.hyzer.systems.SystemCostMonitor;
 import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -155,6 +161,64 @@ public class InteractionStatusCommand extends AbstractPlayerCommand {
 
         sendMessage(player, "");
 
+        // Fused player checks and their sampling interval per world
+        PlayerSanitizerSystem playerChecks = plugin.getPlayerSanitizerSystem();
+        if (playerChecks != null) {
+            sendMessage(player, "&6--- Player Checks ---");
+            sendMessage(player, "&7Fused: " + playerChecks.getCheckNames());
+            PlayerCheckScheduler scheduler = playerChecks.getScheduler();
+            if (scheduler != null) {
+                for (World w : Universe.get().getWorlds().values()) {
+                    int interval = scheduler.getInterval(w);
+                    sendMessage(player, (interval > 1 ? "&e" : "&a") + w.getName() + ": sampled checks every " + interval + " tick(s)");
+                }
+            }
+            sendMessage(player, "");
+        }
+
+        // Sampled cost of Hyzer's own systems, averaged over every world tick so far
+        if (SystemCostMonitor.isEnabled()) {
+            sendMessage(player, "&6--- Hyzer System Cost (per world tick) ---");
+            var probes = SystemCostMonitor.getProbes();
+            if (probes.isEmpty()) {
+                sendMessage(player, "&7No samples yet");
+            }
+            double totalMicros = 0.0;
+            for (SystemCostMonitor.Probe probe : probes) {
+                double micros = probe.getMicrosPerTick();
+                totalMicros += micros;
+                sendMessage(player, (micros > 500.0 ? "&c" : micros > 100.0 ? "&e" : "&a") + String.format(
+                        "%s: %.1fus/tick (%.2fus/call, max %.0fus)",
+                        probe.getName(), micros, probe.getMicrosPerCall(), probe.getMaxMicros()));
+            }
+            if (!probes.isEmpty()) {
+                sendMessage(player, String.format("&7Total: %.1fus/tick over %d ticks of %d world(s)",
+                        totalMicros, SystemCostMonitor.getWorldTicks(), SystemCostMonitor.getWorldCount()));
+            }
+            sendMessage(player, "");
+        }
+
+        // Tick time percentiles (TickTimeSampler)
+        var optimization = ConfigManager.getInstance().getConfig().optimization;
+        if (optimization != null && optimization.tickHistogram != null && TpsMonitor.hasTickHistograms()) {
+            int window = optimization.tickHistogram.statusWindowSeconds;
+            sendMessage(player, "&6--- Tick Times (last " + window + "s) ---");
+            for (World w : Universe.get().getWorlds().values()) {
+                double p99 = TpsMonitor.getWorldTickPercentileMillis(w, 99.0, window);
+                // Colour on the bucket's lower bound; the displayed p99 rounds up by up to ~12%
+                double p99Floor = TpsMonitor.getWorldTickPercentileFloorMillis(w, 99.0, window);
+                double stepMillis = w.getTickStepNanos() / 1_000_000.0;
+                String color = p99Floor > stepMillis * 1.5 ? "&c" : p99Floor > stepMillis * 1.1 ? "&e" : "&a";
+                sendMessage(player, color + String.format("%s: p50 %.1fms, p95 %.1fms, p99 %.1fms, max %.1fms",
+                        w.getName(),
+                        TpsMonitor.getWorldTickPercentileMillis(w, 50.0, window),
+                        TpsMonitor.getWorldTickPercentileMillis(w, 95.0, window),
+                        p99,
+                        TpsMonitor.getWorldTickMaxMillis(w, window)));
+            }
+            sendMessage(player, "");
+        }
+
         // Known unfixable bugs section
         sendMessage(player, "&6--- Known Unfixable Hytale Bugs ---");
         sendMessage(player, "&7These require fixes from Hytale developers:");
@@ -241,6 +241,7 @@ public class ConfigManager {
             case "staticsharedinstances" -> t.staticSharedInstances;
             case "gamepackethandler" -> t.gamePacketHandler;
             case "blockhealthsystem" -> t.blockHealthSystem;
+            case "chunktracker" -> t.chunkTracker;
             default -> {
                 System.err.println("[Hyzer-Config] Unknown transformer: " + name);
                 yield true; // Default to enabled for safety
@@ -248,6 +249,13 @@ public class ConfigManager {
         };
     }
 
+    /**
+     * Check if the per-player sanitizers should share one fused system.
+     */
+    public boolean isFusePlayerChecks() {
+        return config.sanitizers.fusePlayerChecks;
+    }
+
     /**
      * Check if verbose logging is enabled.
      */
@@ -298,12 +306,12 @@ public class ConfigManager {
     // Empty archetype settings
     // ============================================
 
-    public int getEmptyArchetypeSkipFirstN() {
-        return config.emptyArchetype.skipFirstN;
+    public int getEmptyArchetypeAuditIntervalTicks() {
+        return config.emptyArchetype.auditIntervalTicks;
     }
 
-    public int getEmptyArchetypeLogEveryN() {
-        return config.emptyArchetype.logEveryN;
+    public int getEmptyArchetypeMaxReportedRefs() {
+        return config.emptyArchetype.maxReportedRefs;
     }
 
     // ============================================
@@ -22,6 +22,12 @@ public class HyzerConfig {
     
     // Empty archetype settings
     public EmptyArchetypeConfig emptyArchetype = new EmptyArchetypeConfig();
+
+    // Sampled scheduling of the fused player checks
+    public PlayerCheckSchedulingConfig playerCheckScheduling = new PlayerCheckSchedulingConfig();
+
+    // Sampled tick cost of Hyzer's own systems
+    public SystemCostConfig systemCost = new SystemCostConfig();
     
     // Logging settings
     public LoggingConfig logging = new LoggingConfig();
@@ -56,6 +62,7 @@ public class HyzerConfig {
         public boolean instancePositionTracker = true;
         public boolean sharedInstancePersistence = true;
         public boolean defaultWorldRecovery = true;  // Auto-reload default world after crash
+        public boolean fusePlayerChecks = true;  // Run the Player-query sanitizers in one pass
     }
 
     /**
@@ -83,8 +90,31 @@ public class HyzerConfig {
      * Empty archetype configuration
      */
     public static class EmptyArchetypeConfig {
-        public int skipFirstN = 1000;
-        public int logEveryN = 10000;
+        public int auditIntervalTicks = 600;  // 30 seconds at 20 TPS
+        public int maxReportedRefs = 5;       // Offending refs listed per audit summary
+    }
+
+    /**
+     * Sampled player check scheduling. Checks that are not needed every tick see 1/N of the
+     * players per tick, N scaling from minInterval (headroom >= fullHeadroom) to maxInterval
+     * (headroom <= noHeadroom). Only applies when sanitizers.fusePlayerChecks is on.
+     */
+    public static class PlayerCheckSchedulingConfig {
+        public boolean enabled = true;
+        public int minInterval = 1;
+        public int maxInterval = 8;
+        public double fullHeadroom = 0.5;   // 1 - tick load
+        public double noHeadroom = 0.1;
+    }
+
+    /**
+     * Tick cost sampling for Hyzer's own systems. One call in sampleEvery is timed; a summary
+     * line is logged every logIntervalSeconds (0 = only in /interactionstatus).
+     */
+    public static class SystemCostConfig {
+        public boolean enabled = true;
+        public int sampleEvery = 16;
+        public int logIntervalSeconds = 300;
     }
 
     /**
@@ -119,6 +149,7 @@ public class HyzerConfig {
         public boolean staticSharedInstances = true;
         public boolean gamePacketHandler = true;
         public boolean blockHealthSystem = true;
+        public boolean chunkTracker = true;
     }
 
     /**
@@ -134,6 +165,8 @@ public class HyzerConfig {
      */
     public static class EarlyConfig {
         public EarlyLoggingConfig logging = new EarlyLoggingConfig();
+        public EarlyCacheConfig cache = new EarlyCacheConfig();
+        public EarlyProfileConfig profile = new EarlyProfileConfig();
     }
 
     /**
@@ -143,6 +176,20 @@ public class HyzerConfig {
         public boolean verbose = false;
     }
 
+    /**
+     * Early plugin transformed-bytecode cache (mods/hyzer/cache)
+     */
+    public static class EarlyCacheConfig {
+        public boolean enabled = true;
+    }
+
+    /**
+     * Early plugin startup profile (mods/hyzer/early-profile.json)
+     */
+    public static class EarlyProfileConfig {
+        public boolean enabled = true;
+    }
+
     /**
      * Interaction timeout configuration
      * Controls how long the server waits for client responses during interactions
@@ -165,8 +212,12 @@ public class HyzerConfig {
         public int checkIntervalMillis = 5000;
         public TpsConfig tps = new TpsConfig();
         public TpsAdjusterConfig tpsAdjuster = new TpsAdjusterConfig();
+        public WorldHibernationConfig hibernation = new WorldHibernationConfig();
         public ActiveChunkUnloaderConfig chunkUnloader = new ActiveChunkUnloaderConfig();
         public PerPlayerRadiusConfig perPlayerRadius = new PerPlayerRadiusConfig();
+        public ChunkTickLodConfig tickLod = new ChunkTickLodConfig();
+        public TickHistogramConfig tickHistogram = new TickHistogramConfig();
+        public LoadGovernorConfig governor = new LoadGovernorConfig();
         public FluidFixerConfig fluidFixer = new FluidFixerConfig();
     }
 
@@ -192,6 +243,18 @@ public class HyzerConfig {
         public int emptyLimitDelaySeconds = 300;
     }
 
+    /**
+     * Event-driven empty-world TPS drop: worlds with no players for {@code delaySeconds} run at
+     * {@code hibernateTps} until a player joins. {@code excludeWorlds} entries are exact names,
+     * {@code __DEFAULT} or a prefix ending in {@code *}.
+     */
+    public static class WorldHibernationConfig {
+        public boolean enabled = false;
+        public int delaySeconds = 30;
+        public int hibernateTps = 1;
+        public String[] excludeWorlds = new String[]{"__DEFAULT"};
+    }
+
     /**
      * Active chunk unloader settings
      */
@@ -202,6 +265,37 @@ public class HyzerConfig {
         public int minLoadedChunks = 100;
         public int unloadDelaySeconds = 30;
         public int maxUnloadsPerRun = 200;
+        public int sliceBudgetMicros = 1000;
+        public int sliceIntervalMillis = 50;
+        public double lookaheadSeconds = 8.0;
+        public int maxLookaheadChunks = 16;
+        public boolean saveDirtyChunks = true;
+        public int maxSaveRequestsPerRun = 32;
+        public int saveRetrySeconds = 30;
+        public MemoryPressureConfig memoryPressure = new MemoryPressureConfig();
+        public WorldChunkBudgetConfig[] worldBudgets = new WorldChunkBudgetConfig[0];
+    }
+
+    /**
+     * Loaded chunk cap for a world. {@code world} is an exact name, {@code __DEFAULT}
+     * or a prefix ending in {@code *} (e.g. {@code instance-*}).
+     */
+    public static class WorldChunkBudgetConfig {
+        public String world = "";
+        public int maxLoadedChunks = 0;
+    }
+
+    /**
+     * Memory pressure thresholds for aggressive chunk unloading
+     */
+    public static class MemoryPressureConfig {
+        public boolean enabled = false;
+        public double highHeapPercent = 85.0;
+        public double lowHeapPercent = 70.0;
+        public double gcTimePercent = 10.0;
+        public int aggressiveUnloadDelaySeconds = 5;
+        public int aggressiveDistanceOffset = 1;
+        public int aggressiveMaxUnloadsPerRun = 1000;
     }
 
     /**
@@ -216,6 +310,46 @@ public class HyzerConfig {
         public int adjustmentStep = 1;
     }
 
+    /**
+     * Reduced-rate ticking for chunks just outside the hot radius
+     */
+    public static class ChunkTickLodConfig {
+        public boolean enabled = false;
+        public int ringChunks = 6;
+        public int bandChunks = 2;
+        public int maxTickInterval = 16;
+        public int rebuildIntervalTicks = 20;
+    }
+
+    /**
+     * Per-world tick time histogram (p50/p95/p99/max), used by the load governor and /interactionstatus
+     */
+    public static class TickHistogramConfig {
+        public boolean enabled = true;
+        public int statusWindowSeconds = 60;
+    }
+
+    /**
+     * Unified load governor (replaces ViewRadiusAdjuster and PerPlayerHotRadius scheduling when enabled)
+     */
+    public static class LoadGovernorConfig {
+        public boolean enabled = false;
+        public int intervalMillis = 2000;
+        public double targetLoad = 0.8;
+        public double kp = 1.0;
+        public double ki = 0.2;
+        public double kd = 0.1;
+        public double deadband = 0.05;
+        public int minDwellSeconds = 15;
+        public double highHeapPercent = 85.0;
+        public int playerSoftCap = 100;
+        public double playerWeight = 0.2;
+        public double tailPercentile = 99.0;
+        public int tailWindowSeconds = 10;
+        public double tailTolerance = 0.25;
+        public double tailWeight = 0.5;
+    }
+
     /**
      * Fluid pre-process fixer settings
      */
@@ -1,6 +1,9 @@
 package com.hyzer.listeners;
 
 import com.hyzer.Hyzer;
+import com.hyzer.systems.PlayerCheck;
+import com.hyzer.systems.SystemCostMonitor;
+import com.hyzer.util.Accessors;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -13,8 +16,14 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
@@ -40,10 +49,16 @@ import java.util.logging.Level;
  * This sanitizer runs each tick on entities with ChunkTracker components.
  * It validates PlayerRef references and removes invalid ones before
  * Hytale's PlayerChunkTrackerSystems$UpdateSystem can crash on them.
+ *
+ * When the early plugin has null-guarded tryUnloadChunk(), the crash can no longer happen, but
+ * the guard only skips the call: the stale PlayerRef stays in the tracker and every later call
+ * bails out on it too. The sanitizer then keeps pruning those refs as a sampled check instead
+ * of an every-tick one.
  */
-public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
+public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> implements PlayerCheck {
 
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("ChunkTrackerSanitizer");
 
     // Discovered via reflection
     private Class<?> chunkTrackerClass = null;
@@ -53,6 +68,36 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     private Method getReferenceMethod = null;   // PlayerRef.getReference()
     private Field playerRefsField = null;       // Field holding player refs if no getter
 
+    // Field plan: only the ChunkTracker fields that can hold a PlayerRef, bound once after discovery
+    private PlannedField[] fieldPlan = new PlannedField[0];
+    private Accessors.Invoker getReference = null;
+
+    // Kinds of planned fields
+    private static final int KIND_REF = 0;         // Declared as PlayerRef (or a supertype)
+    private static final int KIND_COLLECTION = 1;  // Collection whose elements can be PlayerRefs
+    private static final int KIND_MAP = 2;         // Map whose keys and/or values can be PlayerRefs
+    private static final int KIND_DYNAMIC = 3;     // Declared as Object etc. - decide from the value
+
+    private static final String CHUNK_TRACKER_CLASS = "com.hypixel.hytale.server.core.modules.entity.player.ChunkTracker";
+
+    // Set by the early plugin's ChunkTrackerTransformer once tryUnloadChunk() is guarded
+    private static final String EARLY_GUARD_PROPERTY = "hyzer.early.chunkTrackerGuard";
+
+    private static final String FASTUTIL_PACKAGE = "it.unimi.dsi.fastutil.";
+
+    /**
+     * fastutil collections of primitives (LongSet, Long2IntMap, ...) can never contain a
+     * PlayerRef and may hold thousands of chunk indices, so they are never iterated.
+     */
+    private static final ClassValue<Boolean> PRIMITIVE_ONLY = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isPrimitiveFastutilType(type);
+        }
+    };
+
+    private final boolean earlyGuardActive;
+
     private boolean initialized = false;
     private boolean apiDiscoveryFailed = false;
 
@@ -61,8 +106,9 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     private final AtomicInteger invalidRefsFound = new AtomicInteger(0);
     private final AtomicInteger crashesPrevented = new AtomicInteger(0);
 
-    public ChunkTrackerSanitizer(Hyzer plugin) {
+    public ChunkTrackerSanitizer(Hyzer plugin, boolean earlyGuardActive) {
         this.plugin = plugin;
+        this.earlyGuardActive = earlyGuardActive;
     }
 
     @Override
@@ -78,6 +124,33 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = cost.start();
+        check(index, chunk, store, commandBuffer,
+                chunk.getReferenceTo(index), chunk.getComponent(index, Player.getComponentType()));
+        cost.stop(start);
+    }
+
+    @Override
+    public String getCheckName() {
+        return "ChunkTrackerSanitizer";
+    }
+
+    @Override
+    public boolean runsEveryTick() {
+        // Stale PlayerRefs crash the chunk tracker update as soon as the player is gone, unless
+        // the early guard is in place - then they only need pruning eventually
+        return !earlyGuardActive;
+    }
+
+    @Override
+    public void check(
+            int index,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            Ref<EntityStore> ref,
+            Player player
     ) {
         if (!initialized && !apiDiscoveryFailed) {
             discoverApi();
@@ -110,28 +183,38 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private void validateAndCleanPlayerRefs(Object chunkTracker) {
         try {
-            // Try multiple approaches to find and validate player refs
-
-            // Approach 1: Look for fields that might contain PlayerRefs
-            for (Field field : chunkTrackerClass.getDeclaredFields()) {
-                field.setAccessible(true);
-                Object value = field.get(chunkTracker);
+            for (PlannedField planned : fieldPlan) {
+                Object value = planned.getter().get(chunkTracker);
+                if (value == null) {
+                    continue;
+                }
 
-                if (value == null) continue;
+                int kind = planned.kind();
+                if (kind == KIND_DYNAMIC) {
+                    if (PRIMITIVE_ONLY.get(value.getClass())) {
+                        continue;
+                    }
+                    kind = value instanceof Collection ? KIND_COLLECTION
+                            : value instanceof Map ? KIND_MAP
+                            : KIND_REF;
+                }
 
-                // Check if it's a collection that might contain PlayerRefs
-                if (value instanceof Collection) {
-                    cleanCollection((Collection<?>) value, field.getName());
-                } else if (value instanceof Map) {
-                    cleanMap((Map<?, ?>) value, field.getName());
-                } else if (playerRefClass != null && playerRefClass.isInstance(value)) {
+                if (kind == KIND_COLLECTION) {
+                    if (!PRIMITIVE_ONLY.get(value.getClass()) && value instanceof Collection) {
+                        cleanCollection((Collection<?>) value, planned.name());
+                    }
+                } else if (kind == KIND_MAP) {
+                    if (!PRIMITIVE_ONLY.get(value.getClass()) && value instanceof Map) {
+                        cleanMap((Map<?, ?>) value, planned.name(), planned.keys(), planned.values());
+                    }
+                } else if (playerRefClass.isInstance(value)) {
                     // Single PlayerRef field
-                    if (isInvalidPlayerRef(value)) {
-                        field.set(chunkTracker, null);
+                    if (isInvalidPlayerRef(value) && planned.setter() != null) {
+                        planned.setter().set(chunkTracker, null);
                         invalidRefsFound.incrementAndGet();
                         crashesPrevented.incrementAndGet();
                         plugin.getLogger().at(Level.INFO).log(
-                                "[ChunkTrackerSanitizer] Cleared invalid PlayerRef in field: " + field.getName());
+                                "[ChunkTrackerSanitizer] Cleared invalid PlayerRef in field: " + planned.name());
                     }
                 }
             }
@@ -172,14 +255,14 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     /**
      * Clean invalid PlayerRefs from a map (keys or values)
      */
-    private void cleanMap(Map<?, ?> map, String fieldName) {
+    private void cleanMap(Map<?, ?> map, String fieldName, boolean checkKeys, boolean checkValues) {
         try {
             int removed = 0;
             Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
             while (iterator.hasNext()) {
                 Map.Entry<?, ?> entry = iterator.next();
-                Object key = entry.getKey();
-                Object value = entry.getValue();
+                Object key = checkKeys ? entry.getKey() : null;
+                Object value = checkValues ? entry.getValue() : null;
 
                 boolean keyInvalid = key != null && playerRefClass != null &&
                         playerRefClass.isInstance(key) && isInvalidPlayerRef(key);
@@ -207,8 +290,8 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private boolean isInvalidPlayerRef(Object playerRef) {
         try {
-            if (getReferenceMethod != null) {
-                Object ref = getReferenceMethod.invoke(playerRef);
+            if (getReference != null) {
+                Object ref = getReference.invoke(playerRef);
                 return ref == null;
             }
         } catch (Exception e) {
@@ -222,7 +305,7 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] Discovering ChunkTracker API...");
 
             // Find ChunkTracker class
-            chunkTrackerClass = Class.forName("com.hypixel.hytale.server.core.modules.entity.player.ChunkTracker");
+            chunkTrackerClass = Class.forName(CHUNK_TRACKER_CLASS);
 
             // Get ComponentType
             Method getComponentTypeMethod = chunkTrackerClass.getMethod("getComponentType");
@@ -233,12 +316,15 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
 
             // Find getReference() method on PlayerRef
             getReferenceMethod = playerRefClass.getMethod("getReference");
+            getReference = Accessors.invoker(getReferenceMethod);
+            buildFieldPlan();
 
             initialized = true;
             plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] API discovery successful!");
             plugin.getLogger().at(Level.INFO).log("  - ChunkTracker type: " + chunkTrackerType);
             plugin.getLogger().at(Level.INFO).log("  - PlayerRef class: " + playerRefClass);
             plugin.getLogger().at(Level.INFO).log("  - getReference method: " + getReferenceMethod);
+            plugin.getLogger().at(Level.INFO).log("  - Field plan: " + describeFieldPlan());
 
             // Log fields for debugging
             plugin.getLogger().at(Level.FINE).log("  - ChunkTracker fields:");
@@ -261,6 +347,146 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
         }
     }
 
+    /**
+     * Classify the instance fields of ChunkTracker once and keep only those that can hold a
+     * PlayerRef: PlayerRef-typed fields, collections and maps whose element types admit one,
+     * and loosely typed fields that have to be decided from their value. Primitive fastutil
+     * collections (the chunk index sets) are left out entirely.
+     */
+    private void buildFieldPlan() {
+        List<PlannedField> plan = new ArrayList<>();
+        for (Field field : chunkTrackerClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Class<?> type = field.getType();
+            if (type.isPrimitive() || type.isArray() || isPrimitiveFastutilType(type)) {
+                continue;
+            }
+
+            int kind;
+            boolean keys = true;
+            boolean values = true;
+            if (Collection.class.isAssignableFrom(type)) {
+                if (!canHoldPlayerRef(typeArgument(field, Collection.class, 0))) {
+                    continue;
+                }
+                kind = KIND_COLLECTION;
+            } else if (Map.class.isAssignableFrom(type)) {
+                keys = !hasPrimitiveFastutilKeys(type) && canHoldPlayerRef(typeArgument(field, Map.class, 0));
+                values = canHoldPlayerRef(typeArgument(field, Map.class, 1));
+                if (!keys && !values) {
+                    continue;
+                }
+                kind = KIND_MAP;
+            } else if (type.isAssignableFrom(playerRefClass)) {
+                // PlayerRef itself, or Object / an interface it implements
+                kind = type == playerRefClass ? KIND_REF : KIND_DYNAMIC;
+            } else {
+                continue;
+            }
+
+            Accessors.Setter setter = null;
+            if (kind == KIND_REF || kind == KIND_DYNAMIC) {
+                try {
+                    setter = Accessors.setter(field);
+                } catch (IllegalStateException e) {
+                    // Final field - can still be scanned, just not cleared
+                }
+            }
+            plan.add(new PlannedField(field.getName(), kind, Accessors.getter(field), setter, keys, values));
+        }
+        fieldPlan = plan.toArray(new PlannedField[0]);
+    }
+
+    /**
+     * Whether a declared element type admits PlayerRef instances. Unknown (raw, wildcard,
+     * type variable) counts as yes.
+     */
+    private boolean canHoldPlayerRef(Type elementType) {
+        if (elementType instanceof Class<?> elementClass) {
+            return elementClass.isAssignableFrom(playerRefClass);
+        }
+        if (elementType instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> rawClass) {
+            return rawClass.isAssignableFrom(playerRefClass);
+        }
+        return true;
+    }
+
+    /**
+     * The declared type argument {@code index} of {@code owner} on a field, when the field is
+     * declared directly as a parameterization of a subtype with the same parameters (List, Set,
+     * Map, HashMap, ...). Anything else returns null, i.e. unknown.
+     */
+    private static Type typeArgument(Field field, Class<?> owner, int index) {
+        if (field.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> rawClass
+                && rawClass.getTypeParameters().length == owner.getTypeParameters().length) {
+            Type argument = parameterized.getActualTypeArguments()[index];
+            return argument instanceof WildcardType ? null : argument;
+        }
+        return null;
+    }
+
+    /**
+     * fastutil types whose name has no Object/Reference part hold primitives only,
+     * e.g. LongOpenHashSet, Long2IntMap, IntArrayList.
+     */
+    private static boolean isPrimitiveFastutilType(Class<?> type) {
+        // Walk up so subclasses of fastutil collections are recognised too
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            String name = c.getName();
+            if (name.startsWith(FASTUTIL_PACKAGE)) {
+                return !name.startsWith(FASTUTIL_PACKAGE + "objects.")
+                        && !name.contains("Object")
+                        && !name.contains("Reference");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * fastutil maps keyed by a primitive (Long2ObjectMap, Int2ReferenceOpenHashMap, ...).
+     */
+    private static boolean hasPrimitiveFastutilKeys(Class<?> type) {
+        String name = type.getName();
+        if (!name.startsWith(FASTUTIL_PACKAGE) || name.startsWith(FASTUTIL_PACKAGE + "objects.")) {
+            return false;
+        }
+        String simpleName = type.getSimpleName();
+        return simpleName.contains("2") && !simpleName.startsWith("Object") && !simpleName.startsWith("Reference");
+    }
+
+    private String describeFieldPlan() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(fieldPlan.length).append(" field(s) can hold PlayerRefs");
+        for (int i = 0; i < fieldPlan.length; i++) {
+            sb.append(i == 0 ? ": " : ", ").append(fieldPlan[i].name());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A ChunkTracker field that can hold PlayerRefs, with its accessors bound.
+     */
+    private record PlannedField(String name, int kind, Accessors.Getter getter, Accessors.Setter setter,
+                                boolean keys, boolean values) {
+    }
+
+    /**
+     * Whether the early plugin has already null-guarded ChunkTracker.tryUnloadChunk(), so stale
+     * refs no longer crash and only need pruning. Loads ChunkTracker first so the transformer has run.
+     */
+    public static boolean isEarlyGuardActive() {
+        try {
+            Class.forName(CHUNK_TRACKER_CLASS);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+        return Boolean.getBoolean(EARLY_GUARD_PROPERTY);
+    }
+
     /**
      * Get status for the /interactionstatus command
      */
@@ -1,9 +1,13 @@
 package com.hyzer.listeners;
 
 import com.hyzer.Hyzer;
+import com.hyzer.systems.PlayerCheck;
+import com.hyzer.systems.SystemCostMonitor;
+import com.hyzer.util.Accessors;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
@@ -35,9 +39,10 @@ import java.util.logging.Level;
  *
  * Uses reflection since CraftingManager API may not be directly accessible.
  */
-public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
+public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> implements PlayerCheck {
 
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("CraftingManagerSanitizer");
     private boolean loggedOnce = false;
     private boolean discoveryComplete = false;
     private boolean discoveryFailed = false;
@@ -51,6 +56,19 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
     private Method getBenchMethod = null;
     private Field benchBlockTypeField = null;
 
+    // Bound once after discovery, used on the per-tick path
+    private Accessors.Invoker getBench = null;
+    private Accessors.Getter benchBlockTypeGetter = null;
+    private Accessors.Setter benchBlockTypeSetter = null;
+    private Accessors.Action clearBench = null;
+
+    // Window check, resolved on first use (null after a failed lookup)
+    private boolean windowApiResolved = false;
+    private Accessors.Invoker getWindowManager = null;
+    private Class<?> windowManagerClass = null;
+    private Accessors.BooleanInvoker hasOpenWindows = null;
+    private Accessors.IntInvoker openWindowCount = null;
+
     public CraftingManagerSanitizer(Hyzer plugin) {
         this.plugin = plugin;
     }
@@ -67,6 +85,32 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = cost.start();
+        check(entityIndex, chunk, store, commandBuffer,
+                chunk.getReferenceTo(entityIndex), chunk.getComponent(entityIndex, Player.getComponentType()));
+        cost.stop(start);
+    }
+
+    @Override
+    public String getCheckName() {
+        return "CraftingManagerSanitizer";
+    }
+
+    @Override
+    public boolean runsEveryTick() {
+        // A stale bench must be cleared before the player's next bench open, which can be the next tick
+        return true;
+    }
+
+    @Override
+    public void check(
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            Ref<EntityStore> ref,
+            Player player
     ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
@@ -94,7 +138,6 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
             // Check if bench is currently set
             if (isBenchSet(craftingManager)) {
                 // Check if player actually has a bench window open
-                Player player = chunk.getComponent(entityIndex, Player.getComponentType());
                 if (player != null && !hasBenchWindowOpen(player)) {
                     // Stale bench reference - clear it!
                     clearBench(craftingManager);
@@ -212,6 +255,8 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
                 }
             }
 
+            bindAccessors();
+
             if (clearBenchMethod == null && benchBlockTypeField == null) {
                 plugin.getLogger().at(Level.WARNING).log(
                     "[CraftingManagerSanitizer] Could not find way to clear bench state. " +
@@ -231,17 +276,37 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
         }
     }
 
+    /**
+     * Resolve the discovered members into accessors once.
+     */
+    private void bindAccessors() {
+        if (getBenchMethod != null) {
+            getBench = Accessors.invoker(getBenchMethod);
+        }
+        if (clearBenchMethod != null) {
+            clearBench = Accessors.action(clearBenchMethod);
+        }
+        if (benchBlockTypeField != null) {
+            benchBlockTypeGetter = Accessors.getter(benchBlockTypeField);
+            try {
+                benchBlockTypeSetter = Accessors.setter(benchBlockTypeField);
+            } catch (IllegalStateException e) {
+                // Final field - can only be cleared through the clear method
+            }
+        }
+    }
+
     /**
      * Check if the CraftingManager has a bench set.
      */
     private boolean isBenchSet(Object craftingManager) {
         try {
-            if (getBenchMethod != null) {
-                Object bench = getBenchMethod.invoke(craftingManager);
+            if (getBench != null) {
+                Object bench = getBench.invoke(craftingManager);
                 return bench != null;
             }
-            if (benchBlockTypeField != null) {
-                Object benchType = benchBlockTypeField.get(craftingManager);
+            if (benchBlockTypeGetter != null) {
+                Object benchType = benchBlockTypeGetter.get(craftingManager);
                 return benchType != null;
             }
         } catch (Exception e) {
@@ -255,12 +320,12 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private void clearBench(Object craftingManager) {
         try {
-            if (clearBenchMethod != null) {
-                clearBenchMethod.invoke(craftingManager);
+            if (clearBench != null) {
+                clearBench.invoke(craftingManager);
                 return;
             }
-            if (benchBlockTypeField != null) {
-                benchBlockTypeField.set(craftingManager, null);
+            if (benchBlockTypeSetter != null) {
+                benchBlockTypeSetter.set(craftingManager, null);
             }
         } catch (Exception e) {
             plugin.getLogger().at(Level.WARNING).log(
@@ -288,16 +353,14 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
             }
 
             // Check if any bench window is open
-            Method hasOpenWindowsMethod = findMethod(windowManager.getClass(),
-                "hasOpenWindows", "hasWindows", "getOpenWindowCount", "isOpen");
-            if (hasOpenWindowsMethod != null) {
-                Object result = hasOpenWindowsMethod.invoke(windowManager);
-                if (result instanceof Boolean) {
-                    return (Boolean) result;
-                }
-                if (result instanceof Integer) {
-                    return ((Integer) result) > 0;
-                }
+            if (windowManager.getClass() != windowManagerClass) {
+                bindWindowCheck(windowManager.getClass());
+            }
+            if (hasOpenWindows != null) {
+                return hasOpenWindows.invoke(windowManager);
+            }
+            if (openWindowCount != null) {
+                return openWindowCount.invoke(windowManager) > 0;
             }
 
         } catch (Exception e) {
@@ -311,20 +374,37 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
      * Get the WindowManager from a Player.
      */
     private Object getPlayerWindowManager(Player player) {
-        try {
-            String[] methodNames = {"getWindowManager", "windowManager", "getWindows"};
-            for (String methodName : methodNames) {
-                try {
-                    Method method = Player.class.getMethod(methodName);
-                    return method.invoke(player);
-                } catch (NoSuchMethodException e) {
-                    // Try next
-                }
+        if (!windowApiResolved) {
+            windowApiResolved = true;
+            Method method = findMethod(Player.class, "getWindowManager", "windowManager", "getWindows");
+            if (method != null) {
+                getWindowManager = Accessors.invoker(method);
             }
+        }
+        try {
+            return getWindowManager != null ? getWindowManager.invoke(player) : null;
         } catch (Exception e) {
-            // Ignore
+            return null;
+        }
+    }
+
+    /**
+     * Bind the open-window check for a WindowManager class. Only a boolean or int result
+     * can be interpreted; anything else leaves both checks unset.
+     */
+    private void bindWindowCheck(Class<?> managerClass) {
+        windowManagerClass = managerClass;
+        hasOpenWindows = null;
+        openWindowCount = null;
+        Method method = findMethod(managerClass, "hasOpenWindows", "hasWindows", "getOpenWindowCount", "isOpen");
+        if (method == null) {
+            return;
+        }
+        if (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class) {
+            hasOpenWindows = Accessors.booleanInvoker(method);
+        } else if (method.getReturnType() == int.class || method.getReturnType() == Integer.class) {
+            openWindowCount = Accessors.intInvoker(method);
         }
-        return null;
     }
 
     /**
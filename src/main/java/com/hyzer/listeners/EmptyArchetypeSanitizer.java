@@ -2,15 +2,24 @@ package com.hyzer.listeners;
 
 import com.hyzer.Hyzer;
 import com.hyzer.config.ConfigManager;
+import com.hyzer.systems.SystemCostMonitor;
 import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 /**
@@ -26,112 +35,177 @@ import java.util.logging.Level;
  * - World generation issues
  *
  * LIMITATION: This error occurs during chunk loading, not during entity ticking.
- * An EntityTickingSystem cannot intercept chunk loading operations.
+ * A ticking system cannot intercept chunk loading operations.
  *
- * CURRENT SOLUTION: This system runs during entity ticks and attempts to detect
- * and remove any entities that somehow end up in the world with invalid state.
- * It's a safety net, not a prevention mechanism.
+ * CURRENT SOLUTION: A periodic audit of every entity with a TransformComponent that
+ * reports any which ended up in the world with invalid state (missing transform or a
+ * NaN/Infinite position). It's a safety net for monitoring, not a prevention mechanism,
+ * and it never removes anything.
  *
- * The actual empty archetype detection happens in EntityChunkLoadingSystem which
- * already excludes these entities from processing. This sanitizer provides
- * additional monitoring and cleanup for any that slip through.
+ * The audit runs once every {@code auditIntervalTicks} per world, on the world thread
+ * between ticks, and walks whole archetype chunks in a flat loop. Each audit that finds
+ * something logs one summary line (count plus the first few offending refs); the same
+ * count on the next audit is only logged at FINE.
  *
  * TODO: Investigate chunk-level RefSystem or chunk loading hooks for better
  * prevention of empty archetype entities.
  */
-public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
+public class EmptyArchetypeSanitizer extends TickingSystem<EntityStore> {
+
+    private static final int STATE_CLEANUP_INTERVAL_TICKS = 1200;
 
     private final Hyzer plugin;
+    // Audits are rare, so every one of them is timed
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("EmptyArchetypeSanitizer", 1);
+    private final Map<String, AuditState> statesByWorld = new ConcurrentHashMap<>();
+    private final AtomicLong auditCount = new AtomicLong();
+    private final AtomicLong checkedCount = new AtomicLong();
+    private final AtomicLong invalidCount = new AtomicLong();
     private boolean loggedOnce = false;
-    private int checkedCount = 0;
-    private int removedCount = 0;
 
     // Configuration (loaded from ConfigManager)
-    private final int skipFirstN;
-    private final int logEveryN;
+    private final int auditIntervalTicks;
+    private final int maxReportedRefs;
 
     public EmptyArchetypeSanitizer(Hyzer plugin) {
         this.plugin = plugin;
         ConfigManager config = ConfigManager.getInstance();
-        this.skipFirstN = config.getEmptyArchetypeSkipFirstN();
-        this.logEveryN = config.getEmptyArchetypeLogEveryN();
+        this.auditIntervalTicks = Math.max(config.getEmptyArchetypeAuditIntervalTicks(), 1);
+        this.maxReportedRefs = Math.max(config.getEmptyArchetypeMaxReportedRefs(), 0);
     }
 
     @Override
-    public Query<EntityStore> getQuery() {
-        // Query for TransformComponent - the base component most entities have
-        return TransformComponent.getComponentType();
-    }
+    public void tick(float dt, int systemIndex, Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null || world.getName() == null) {
+            return;
+        }
 
-    @Override
-    public void tick(
-            float deltaTime,
-            int entityIndex,
-            ArchetypeChunk<EntityStore> chunk,
-            Store<EntityStore> store,
-            CommandBuffer<EntityStore> commandBuffer
-    ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
-                "[EmptyArchetypeSanitizer] Active - monitoring for entities with invalid state"
+                "[EmptyArchetypeSanitizer] Active - auditing entities for invalid state every " + auditIntervalTicks + " ticks"
             );
             loggedOnce = true;
         }
 
-        try {
-            // Get the TransformComponent
-            TransformComponent transform = chunk.getComponent(entityIndex, TransformComponent.getComponentType());
+        AuditState state = statesByWorld.computeIfAbsent(world.getName(), key -> new AuditState());
+        long tick = ++state.ticks;
 
-            // Skip first N entities silently to avoid log spam on startup
-            checkedCount++;
-            if (checkedCount <= skipFirstN) {
-                return;
-            }
-
-            // Only log occasionally to avoid spam
-            if (checkedCount % logEveryN == 0) {
-                plugin.getLogger().at(Level.FINE).log(
-                    "[EmptyArchetypeSanitizer] Checked " + checkedCount + " entities"
-                );
-            }
+        if (tick % STATE_CLEANUP_INTERVAL_TICKS == 0) {
+            var worldsByName = Universe.get().getWorlds();
+            statesByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+        }
 
-            // Check if transform is valid
-            if (transform == null) {
-                // Transform is null but entity was matched by query - something is wrong
-                plugin.getLogger().at(Level.WARNING).log(
-                    "[EmptyArchetypeSanitizer] Found entity with null TransformComponent at index " + entityIndex
-                );
-                return;
-            }
+        if (tick % auditIntervalTicks != 0) {
+            return;
+        }
 
-            // Check if position is valid (NaN/Infinite check)
-            var position = transform.getPosition();
-            if (position != null) {
-                // Vector3d has isFinite() method that checks for NaN and Infinite
-                if (!position.isFinite()) {
-                    removedCount++;
-                    plugin.getLogger().at(Level.WARNING).log(
-                        "[EmptyArchetypeSanitizer] Found entity #" + removedCount +
-                        " with invalid position (NaN/Infinite) at index " + entityIndex +
-                        " position: " + position
-                    );
-                    // Just log for now - removing might cause cascading issues
-                }
+        // Walk the store between ticks rather than from inside the system pass
+        if (!state.auditPending.compareAndSet(false, true)) {
+            return;
+        }
+        world.execute(() -> {
+            long start = cost.start();
+            try {
+                audit(world, store, state);
+            } finally {
+                cost.stop(start);
+                state.auditPending.set(false);
             }
+        });
+    }
 
+    private void audit(World world, Store<EntityStore> store, AuditState state) {
+        Audit audit = new Audit(TransformComponent.getComponentType(), maxReportedRefs);
+        try {
+            store.forEachChunk(audit.transformType, (chunk, commandBuffer) -> audit.scan(chunk));
         } catch (Exception e) {
             // Log at FINE level to avoid spam
             plugin.getLogger().at(Level.FINE).log(
-                "[EmptyArchetypeSanitizer] Error checking entity: " + e.getMessage()
+                "[EmptyArchetypeSanitizer] Audit of world '" + world.getName() + "' failed: " + e.getMessage()
+            );
+            return;
+        }
+
+        auditCount.incrementAndGet();
+        checkedCount.addAndGet(audit.checked);
+        invalidCount.addAndGet(audit.invalid);
+
+        int previous = state.lastInvalid;
+        state.lastInvalid = audit.invalid;
+        if (audit.invalid == 0) {
+            plugin.getLogger().at(Level.FINE).log(
+                "[EmptyArchetypeSanitizer] Audited " + audit.checked + " entities in world '" + world.getName() + "' - all valid"
             );
+            return;
         }
+
+        // Just log - removing might cause cascading issues
+        plugin.getLogger().at(audit.invalid != previous ? Level.WARNING : Level.FINE).log(
+            "[EmptyArchetypeSanitizer] World '" + world.getName() + "': " + audit.invalid + " of " + audit.checked +
+            " entities have invalid state (missing transform or NaN/Infinite position)" +
+            (audit.offenders.isEmpty() ? "" : " - first: " + String.join(", ", audit.offenders))
+        );
+    }
+
+    public long getAuditCount() {
+        return auditCount.get();
+    }
+
+    public long getCheckedCount() {
+        return checkedCount.get();
+    }
+
+    public long getInvalidCount() {
+        return invalidCount.get();
     }
 
-    public int getCheckedCount() {
-        return checkedCount;
+    /**
+     * Result of one audit pass over a world's store. Only used on the world thread.
+     */
+    private static final class Audit {
+        final ComponentType<EntityStore, TransformComponent> transformType;
+        final int maxReported;
+        final List<String> offenders = new ArrayList<>();
+        int checked = 0;
+        int invalid = 0;
+
+        Audit(ComponentType<EntityStore, TransformComponent> transformType, int maxReported) {
+            this.transformType = transformType;
+            this.maxReported = maxReported;
+        }
+
+        void scan(ArchetypeChunk<EntityStore> chunk) {
+            int size = chunk.size();
+            checked += size;
+            for (int i = 0; i < size; i++) {
+                TransformComponent transform = chunk.getComponent(i, transformType);
+                Vector3d position = transform != null ? transform.getPosition() : null;
+                if (transform != null && (position == null || position.isFinite())) {
+                    continue;
+                }
+                invalid++;
+                if (offenders.size() < maxReported) {
+                    offenders.add(describe(chunk.getReferenceTo(i), position, transform == null));
+                }
+            }
+        }
+
+        private static String describe(Ref<EntityStore> ref, Vector3d position, boolean missingTransform) {
+            String id = ref != null ? "#" + ref.getIndex() : "?";
+            if (missingTransform) {
+                return id + " (no transform)";
+            }
+            return id + " (" + position.getX() + ", " + position.getY() + ", " + position.getZ() + ")";
+        }
     }
 
-    public int getRemovedCount() {
-        return removedCount;
+    /**
+     * Per-world audit bookkeeping. Ticks are only counted on the world's thread.
+     */
+    private static final class AuditState {
+        final AtomicBoolean auditPending = new AtomicBoolean(false);
+        long ticks = 0L;
+        volatile int lastInvalid = 0;
     }
 }
@@ -1,6 +1,9 @@
 package com.hyzer.listeners;
 
 import com.hyzer.Hyzer;
+import com.hyzer.systems.PlayerCheck;
+import com.hyzer.systems.SystemCostMonitor;
+import com.hyzer.util.Accessors;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -13,6 +16,9 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 
 /**
@@ -34,9 +40,10 @@ import java.util.logging.Level;
  * NOTE: This uses reflection since we don't have direct API access to
  * GatherObjectiveTask. The component discovery happens at runtime.
  */
-public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStore> {
+public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStore> implements PlayerCheck {
 
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("GatherObjectiveTaskSanitizer");
     private boolean loggedOnce = false;
     private boolean discoveryComplete = false;
     private boolean discoveryFailed = false;
@@ -52,6 +59,33 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
     private Field tasksField = null;
     private Field targetRefField = null;
 
+    // Bound once after discovery, used on the per-tick path
+    private Accessors.Invoker getTasks = null;
+    private Accessors.Getter tasksGetter = null;
+
+    /**
+     * Ref-typed instance fields per objective/task class, resolved on first sight.
+     */
+    private static final ClassValue<RefField[]> REF_FIELDS = new ClassValue<>() {
+        @Override
+        protected RefField[] computeValue(Class<?> type) {
+            List<RefField> refFields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (Ref.class.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers())) {
+                    try {
+                        refFields.add(new RefField(field.getName(), Accessors.getter(field)));
+                    } catch (IllegalStateException e) {
+                        // Not accessible - skip
+                    }
+                }
+            }
+            return refFields.toArray(new RefField[0]);
+        }
+    };
+
+    private record RefField(String name, Accessors.Getter getter) {
+    }
+
     public GatherObjectiveTaskSanitizer(Hyzer plugin) {
         this.plugin = plugin;
     }
@@ -69,6 +103,26 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = cost.start();
+        check(entityIndex, chunk, store, commandBuffer,
+                chunk.getReferenceTo(entityIndex), chunk.getComponent(entityIndex, Player.getComponentType()));
+        cost.stop(start);
+    }
+
+    @Override
+    public String getCheckName() {
+        return "GatherObjectiveTaskSanitizer";
+    }
+
+    @Override
+    public void check(
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            Ref<EntityStore> ref,
+            Player player
     ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
@@ -93,8 +147,6 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
         }
 
         try {
-            // Get the player entity
-            Player player = chunk.getComponent(entityIndex, Player.getComponentType());
             if (player == null) {
                 return;
             }
@@ -228,6 +280,12 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
                 }
             }
 
+            if (getTasksMethod != null) {
+                getTasks = Accessors.invoker(getTasksMethod);
+            } else if (tasksField != null) {
+                tasksGetter = Accessors.getter(tasksField);
+            }
+
             // Summary
             if (objectiveDataStoreClass == null && gatherObjectiveTaskClass == null) {
                 plugin.getLogger().at(Level.WARNING).log(
@@ -318,10 +376,10 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
 
             // Get tasks from the data store
             Object tasks = null;
-            if (getTasksMethod != null) {
-                tasks = getTasksMethod.invoke(dataStore);
-            } else if (tasksField != null) {
-                tasks = tasksField.get(dataStore);
+            if (getTasks != null) {
+                tasks = getTasks.invoke(dataStore);
+            } else if (tasksGetter != null) {
+                tasks = tasksGetter.get(dataStore);
             }
 
             if (tasks == null) {
@@ -359,29 +417,26 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
     private void validateObjectiveRefs(Object objectiveComponent) {
         try {
             // Look for fields that might contain Refs
-            for (Field field : objectiveComponent.getClass().getDeclaredFields()) {
-                if (Ref.class.isAssignableFrom(field.getType())) {
-                    field.setAccessible(true);
-                    Object refValue = field.get(objectiveComponent);
+            for (RefField field : REF_FIELDS.get(objectiveComponent.getClass())) {
+                Object refValue = field.getter().get(objectiveComponent);
 
-                    if (refValue == null) {
+                if (refValue == null) {
+                    plugin.getLogger().at(Level.WARNING).log(
+                        "[GatherObjectiveTaskSanitizer] Found null ref in objective field: " +
+                        field.name() + " - attempting to clear objective"
+                    );
+                    fixedCount++;
+                    // Try to clear/cancel the objective
+                    tryToClearObjective(objectiveComponent);
+                } else if (refValue instanceof Ref<?>) {
+                    Ref<?> ref = (Ref<?>) refValue;
+                    if (!ref.isValid()) {
                         plugin.getLogger().at(Level.WARNING).log(
-                            "[GatherObjectiveTaskSanitizer] Found null ref in objective field: " +
-                            field.getName() + " - attempting to clear objective"
+                            "[GatherObjectiveTaskSanitizer] Found invalid ref in objective field: " +
+                            field.name() + " - attempting to clear objective"
                         );
                         fixedCount++;
-                        // Try to clear/cancel the objective
                         tryToClearObjective(objectiveComponent);
-                    } else if (refValue instanceof Ref<?>) {
-                        Ref<?> ref = (Ref<?>) refValue;
-                        if (!ref.isValid()) {
-                            plugin.getLogger().at(Level.WARNING).log(
-                                "[GatherObjectiveTaskSanitizer] Found invalid ref in objective field: " +
-                                field.getName() + " - attempting to clear objective"
-                            );
-                            fixedCount++;
-                            tryToClearObjective(objectiveComponent);
-                        }
                     }
                 }
             }
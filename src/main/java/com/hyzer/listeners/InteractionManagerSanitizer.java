@@ -2,6 +2,9 @@ package com.hyzer.listeners;
 
 import com.hyzer.Hyzer;
 import com.hyzer.config.ConfigManager;
+import com.hyzer.systems.PlayerCheck;
+import com.hyzer.systems.SystemCostMonitor;
+import com.hyzer.util.Accessors;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -11,6 +14,14 @@ import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -41,9 +52,10 @@ import java.util.logging.Level;
  * 3. Removes any chains with null context, null refs, or invalid state
  * 4. This prevents the NPE from ever reaching TickInteractionManagerSystem
  */
-public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore> {
+public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore> implements PlayerCheck {
 
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("InteractionManagerSanitizer");
 
     // Discovered via reflection at runtime
     private Class<?> interactionManagerClass = null;
@@ -60,12 +72,22 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     private Method cancelMethod = null;  // InteractionChain.cancel() or similar
     private Object waitingForClientDataState = null;  // CallState.WAITING_FOR_CLIENT_DATA enum value
 
+    // Bound once after discovery, used on the per-tick path instead of Field.get / Method.invoke
+    private Accessors.Invoker getChainsInvoker = null;
+    private Accessors.Getter chainsGetter = null;
+    private Accessors.Getter contextGetter = null;
+    private Accessors.Getter owningEntityGetter = null;
+    private Accessors.BooleanInvoker isValidInvoker = null;
+    private Accessors.Getter callStateGetter = null;
+
     // Client timeout threshold - configurable (default 2000ms)
     // Lowered from 2500ms in v1.3.6 to catch more timeout issues before player gets kicked
     private final long clientTimeoutMs;
 
-    // Track chains waiting for client data: chainKey -> firstSeenTimestamp
-    private final ConcurrentHashMap<String, Long> waitingChains = new ConcurrentHashMap<>();
+    // Chains waiting for client data, tracked per world thread (see Scratch)
+    private static final long NOT_WAITING = Long.MIN_VALUE;
+    private static final long SWEEP_INTERVAL_MS = 1000;
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
 
     private boolean initialized = false;
     private boolean apiDiscoveryFailed = false;
@@ -103,6 +125,32 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = cost.start();
+        check(index, chunk, store, commandBuffer,
+                chunk.getReferenceTo(index), chunk.getComponent(index, Player.getComponentType()));
+        cost.stop(start);
+    }
+
+    @Override
+    public String getCheckName() {
+        return "InteractionManagerSanitizer";
+    }
+
+    @Override
+    public boolean runsEveryTick() {
+        // A chain with a null context crashes TickInteractionManagerSystem on this same tick
+        return true;
+    }
+
+    @Override
+    public void check(
+            int index,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            Ref<EntityStore> ref,
+            Player player
     ) {
         // Try to discover API on first tick
         if (!initialized && !apiDiscoveryFailed) {
@@ -114,8 +162,6 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
         }
 
         try {
-            Ref<EntityStore> ref = chunk.getReferenceTo(index);
-
             // Get InteractionManager component
             Object interactionManager = chunk.getComponent(index, interactionManagerType);
             if (interactionManager == null) {
@@ -123,102 +169,57 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             }
 
             // Get the chains map
-            @SuppressWarnings("unchecked")
             Map<Integer, Object> chains = getChains(interactionManager);
             if (chains == null || chains.isEmpty()) {
                 return;
             }
 
-            // Validate each chain
-            java.util.List<Integer> chainsToRemove = new java.util.ArrayList<>();
-            java.util.List<String> seenChainKeys = new java.util.ArrayList<>();
-
-            for (Map.Entry<Integer, Object> entry : chains.entrySet()) {
-                chainsValidated.incrementAndGet();
-                Object chain = entry.getValue();
-                Integer chainId = entry.getKey();
+            Scratch scratch = SCRATCH.get();
+            scratch.bind(store);
+            IntArrayList chainsToRemove = scratch.chainsToRemove;
+            chainsToRemove.clear();
 
-                if (chain == null) {
-                    chainsToRemove.add(chainId);
-                    continue;
-                }
-
-                // Check if context is null
-                Object context = contextField.get(chain);
-                if (context == null) {
-                    chainsToRemove.add(chainId);
-                    logWarningThrottled(
-                            "null-context",
-                            "[InteractionManagerSanitizer] Found chain with null context, removing to prevent crash");
-                    continue;
-                }
-
-                // Check if owningEntity ref is null or invalid
-                Object owningEntityRef = owningEntityField.get(context);
-                if (owningEntityRef == null) {
-                    chainsToRemove.add(chainId);
-                    logWarningThrottled(
-                            "null-owning-ref",
-                            "[InteractionManagerSanitizer] Found chain with null owningEntity ref, removing to prevent crash");
-                    continue;
-                }
+            long owner = (long) (ref != null ? ref.getIndex() : index) << 32;
+            long now = timeoutDetectionEnabled && callStateGetter != null ? System.currentTimeMillis() : 0L;
+            if (now != 0L && ref != null) {
+                scratch.claim(ref.getIndex(), ref);
+            }
 
-                // Check if the ref is valid
-                if (isValidMethod != null) {
-                    Boolean isValid = (Boolean) isValidMethod.invoke(owningEntityRef);
-                    if (!isValid) {
-                        chainsToRemove.add(chainId);
-                        logWarningThrottled(
-                                "invalid-owning-ref",
-                                "[InteractionManagerSanitizer] Found chain with invalid owningEntity ref, removing to prevent crash");
-                        continue;
-                    }
+            // Validate each chain; fastutil maps are walked without boxing the int keys
+            int validated = 0;
+            if (chains instanceof Int2ObjectMap) {
+                @SuppressWarnings("unchecked")
+                Int2ObjectMap<Object> fastChains = (Int2ObjectMap<Object>) chains;
+                ObjectIterator<Int2ObjectMap.Entry<Object>> iterator = Int2ObjectMaps.fastIterator(fastChains);
+                while (iterator.hasNext()) {
+                    Int2ObjectMap.Entry<Object> entry = iterator.next();
+                    validateChain(entry.getIntKey(), entry.getValue(), owner, now, scratch);
+                    validated++;
                 }
-
-                // Client timeout detection (v1.3.3)
-                if (timeoutDetectionEnabled && callStateField != null) {
-                    try {
-                        Object callState = callStateField.get(chain);
-                        String chainKey = ref.toString() + ":" + chainId;
-                        seenChainKeys.add(chainKey);
-
-                        // Check if chain is waiting for client data
-                        if (isWaitingForClientData(callState)) {
-                            Long firstSeen = waitingChains.get(chainKey);
-                            long now = System.currentTimeMillis();
-
-                            if (firstSeen == null) {
-                                // First time seeing this chain waiting
-                                waitingChains.put(chainKey, now);
-                            } else if (now - firstSeen > clientTimeoutMs) {
-                                // Chain has been waiting too long - proactively cancel it
-                                chainsToRemove.add(chainId);
-                                waitingChains.remove(chainKey);
-                                timeoutsPrevented.incrementAndGet();
-                                logWarningThrottled(
-                                        "client-timeout",
-                                        "[InteractionManagerSanitizer] Chain waiting for client data > " +
-                                        clientTimeoutMs + "ms, removing to prevent kick (chain " + chainId + ")");
-                            }
-                        } else {
-                            // Chain not waiting anymore - remove from tracking
-                            waitingChains.remove(chainKey);
-                        }
-                    } catch (Exception e) {
-                        // Ignore timeout check errors - still have main validation
+            } else {
+                for (Map.Entry<Integer, Object> entry : chains.entrySet()) {
+                    Integer chainId = entry.getKey();
+                    if (chainId != null) {
+                        validateChain(chainId, entry.getValue(), owner, now, scratch);
+                        validated++;
                     }
                 }
             }
+            chainsValidated.addAndGet(validated);
 
-            // Clean up tracking for chains that no longer exist
-            waitingChains.keySet().removeIf(key -> !seenChainKeys.contains(key));
+            if (now != 0L) {
+                scratch.sweepIfDue(now, clientTimeoutMs);
+            }
 
             // Remove invalid chains
             int removedCount = 0;
             if (!chainsToRemove.isEmpty()) {
-                for (Integer chainId : chainsToRemove) {
+                for (int i = 0, n = chainsToRemove.size(); i < n; i++) {
+                    int chainId = chainsToRemove.getInt(i);
                     try {
-                        Object removed = chains.remove(chainId);
+                        Object removed = chains instanceof Int2ObjectMap
+                                ? ((Int2ObjectMap<?>) chains).remove(chainId)
+                                : chains.remove(chainId);
                         if (removed != null) {
                             chainsRemoved.incrementAndGet();
                             removedCount++;
@@ -231,6 +232,7 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
                         break;
                     }
                 }
+                chainsToRemove.clear();
                 if (removedCount > 0) {
                     crashesPrevented.incrementAndGet();
                     removalsSinceLastLog.addAndGet(removedCount);
@@ -245,6 +247,81 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
         }
     }
 
+    /**
+     * Validate one chain and queue it in {@code scratch.chainsToRemove} if it would crash
+     * TickInteractionManagerSystem or has been waiting on the client for too long.
+     *
+     * @param owner the owning entity's index, already shifted into the high 32 bits of the key
+     * @param now   current time in millis, or 0 when timeout detection is off
+     */
+    private void validateChain(int chainId, Object chain, long owner, long now, Scratch scratch) {
+        if (chain == null) {
+            scratch.chainsToRemove.add(chainId);
+            return;
+        }
+
+        // Check if context is null
+        Object chainContext = contextGetter.get(chain);
+        if (chainContext == null) {
+            scratch.chainsToRemove.add(chainId);
+            logWarningThrottled(
+                    "null-context",
+                    "[InteractionManagerSanitizer] Found chain with null context, removing to prevent crash");
+            return;
+        }
+
+        // Check if owningEntity ref is null or invalid
+        Object owningEntityRef = owningEntityGetter.get(chainContext);
+        if (owningEntityRef == null) {
+            scratch.chainsToRemove.add(chainId);
+            logWarningThrottled(
+                    "null-owning-ref",
+                    "[InteractionManagerSanitizer] Found chain with null owningEntity ref, removing to prevent crash");
+            return;
+        }
+
+        // Check if the ref is valid
+        if (isValidInvoker != null && !isValidInvoker.invoke(owningEntityRef)) {
+            scratch.chainsToRemove.add(chainId);
+            logWarningThrottled(
+                    "invalid-owning-ref",
+                    "[InteractionManagerSanitizer] Found chain with invalid owningEntity ref, removing to prevent crash");
+            return;
+        }
+
+        // Client timeout detection (v1.3.3)
+        if (now == 0L) {
+            return;
+        }
+        try {
+            long chainKey = owner | (chainId & 0xFFFFFFFFL);
+            if (isWaitingForClientData(callStateGetter.get(chain))) {
+                long firstSeen = scratch.waitingSince.get(chainKey);
+                if (firstSeen == NOT_WAITING) {
+                    // First time seeing this chain waiting
+                    scratch.waitingSince.put(chainKey, now);
+                    scratch.lastSeen.put(chainKey, now);
+                } else if (now - firstSeen > clientTimeoutMs) {
+                    // Chain has been waiting too long - proactively cancel it
+                    scratch.chainsToRemove.add(chainId);
+                    scratch.forget(chainKey);
+                    timeoutsPrevented.incrementAndGet();
+                    logWarningThrottled(
+                            "client-timeout",
+                            "[InteractionManagerSanitizer] Chain waiting for client data > " +
+                            clientTimeoutMs + "ms, removing to prevent kick (chain " + chainId + ")");
+                } else {
+                    scratch.lastSeen.put(chainKey, now);
+                }
+            } else {
+                // Chain not waiting anymore - remove from tracking
+                scratch.forget(chainKey);
+            }
+        } catch (Exception e) {
+            // Ignore timeout check errors - still have main validation
+        }
+    }
+
     private void discoverApi() {
         try {
             plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] Discovering InteractionManager API...");
@@ -292,6 +369,12 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             // Get isValid() method from Ref
             isValidMethod = refClass.getMethod("isValid");
 
+            getChainsInvoker = Accessors.invoker(getChainsMethod);
+            chainsGetter = chainsField != null ? Accessors.getter(chainsField) : null;
+            contextGetter = Accessors.getter(contextField);
+            owningEntityGetter = Accessors.getter(owningEntityField);
+            isValidInvoker = Accessors.booleanInvoker(isValidMethod);
+
             initialized = true;
             plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] API discovery successful!");
             plugin.getLogger().at(Level.INFO).log("  - InteractionManager ComponentType: " + interactionManagerType);
@@ -373,6 +456,7 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
 
             // Enable timeout detection if we found the state field
             if (callStateField != null && waitingForClientDataState != null) {
+                callStateGetter = Accessors.getter(callStateField);
                 timeoutDetectionEnabled = true;
                 plugin.getLogger().at(Level.INFO).log(
                         "[InteractionManagerSanitizer] Client timeout detection ENABLED (" +
@@ -406,14 +490,14 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     }
 
     @SuppressWarnings("unchecked")
-    private Map<Integer, Object> getChains(Object interactionManager) throws Exception {
-        if (chainsField != null) {
-            Object chainsObj = chainsField.get(interactionManager);
+    private Map<Integer, Object> getChains(Object interactionManager) {
+        if (chainsGetter != null) {
+            Object chainsObj = chainsGetter.get(interactionManager);
             if (chainsObj instanceof Map) {
                 return (Map<Integer, Object>) chainsObj;
             }
         }
-        return (Map<Integer, Object>) getChainsMethod.invoke(interactionManager);
+        return (Map<Integer, Object>) getChainsInvoker.invoke(interactionManager);
     }
 
     private Field discoverChainsField(Class<?> interactionManagerClass) {
@@ -507,4 +591,93 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     public int getCrashesPrevented() {
         return crashesPrevented.get();
     }
+
+    /**
+     * Reused per-thread buffers so a steady-state pass allocates nothing.
+     *
+     * Each world ticks on its own thread, so the waiting-chain maps here only ever hold one
+     * store's entities. Keys are {@code (entityIndex << 32) | chainId}. {@code waitingSince}
+     * holds when a chain was first seen waiting for client data and {@code lastSeen} when it
+     * was last seen at all; entries not seen for a while (chain finished, player gone) are
+     * swept once a second.
+     *
+     * Entity indices are reused once an entity is removed, so {@code owners} remembers the
+     * {@link Ref} last seen at each index. When a different ref turns up at an index, the keys
+     * left by the previous entity are dropped before the new one can inherit them; refs that are
+     * no longer valid are swept with the rest.
+     */
+    private static final class Scratch {
+        final IntArrayList chainsToRemove = new IntArrayList();
+        final Long2LongOpenHashMap waitingSince = new Long2LongOpenHashMap();
+        final Long2LongOpenHashMap lastSeen = new Long2LongOpenHashMap();
+        final Int2ObjectOpenHashMap<Ref<EntityStore>> owners = new Int2ObjectOpenHashMap<>();
+        Store<EntityStore> store;
+        long lastSweep = 0L;
+
+        Scratch() {
+            waitingSince.defaultReturnValue(NOT_WAITING);
+            lastSeen.defaultReturnValue(NOT_WAITING);
+        }
+
+        void bind(Store<EntityStore> store) {
+            if (this.store != store) {
+                // Entity indices are per store - start over rather than mix worlds
+                this.store = store;
+                waitingSince.clear();
+                lastSeen.clear();
+                owners.clear();
+            }
+        }
+
+        void claim(int index, Ref<EntityStore> ref) {
+            Ref<EntityStore> previous = owners.get(index);
+            if (previous == ref) {
+                return;
+            }
+            // A first sighting also purges: the index's previous owner may already have been
+            // swept from owners while its keys were still waiting
+            owners.put(index, ref);
+            if (!lastSeen.isEmpty()) {
+                ObjectIterator<Long2LongMap.Entry> iterator = Long2LongMaps.fastIterator(lastSeen);
+                while (iterator.hasNext()) {
+                    long chainKey = iterator.next().getLongKey();
+                    if ((int) (chainKey >>> 32) == index) {
+                        waitingSince.remove(chainKey);
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+
+        void forget(long chainKey) {
+            if (waitingSince.remove(chainKey) != NOT_WAITING) {
+                lastSeen.remove(chainKey);
+            }
+        }
+
+        void sweepIfDue(long now, long clientTimeoutMs) {
+            if (now - lastSweep < SWEEP_INTERVAL_MS) {
+                return;
+            }
+            lastSweep = now;
+            ObjectIterator<Int2ObjectMap.Entry<Ref<EntityStore>>> owned = Int2ObjectMaps.fastIterator(owners);
+            while (owned.hasNext()) {
+                if (!owned.next().getValue().isValid()) {
+                    owned.remove();
+                }
+            }
+            if (lastSeen.isEmpty()) {
+                return;
+            }
+            long staleAfter = Math.max(clientTimeoutMs, SWEEP_INTERVAL_MS);
+            ObjectIterator<Long2LongMap.Entry> iterator = Long2LongMaps.fastIterator(lastSeen);
+            while (iterator.hasNext()) {
+                Long2LongMap.Entry entry = iterator.next();
+                if (now - entry.getLongValue() > staleAfter) {
+                    waitingSince.remove(entry.getLongKey());
+                    iterator.remove();
+                }
+            }
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.hyzer.listeners;
 
 import com.hyzer.Hyzer;
+import com.hyzer.systems.SystemCostMonitor;
+import com.hyzer.util.Accessors;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -11,6 +13,8 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -42,6 +46,7 @@ import java.util.logging.Level;
 public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
 
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("SpawnBeaconSanitizer");
     private boolean loggedOnce = false;
     private boolean discoveryComplete = false;
     private boolean discoveryFailed = false;
@@ -63,6 +68,47 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     private Field spawnListField = null;  // Another alternative
     private Method getSpawnsMethod = null;  // Method to get spawns if no direct field
 
+    // Bound on first validation, used on the per-tick path
+    private boolean spawnsBound = false;
+    private Accessors.Getter spawnsGetter = null;
+    private Accessors.Invoker getSpawns = null;
+
+    /**
+     * Instance fields of a controller class, for the "any collection-like field" fallback.
+     */
+    private static final ClassValue<Accessors.Getter[]> FIELD_GETTERS = new ClassValue<>() {
+        @Override
+        protected Accessors.Getter[] computeValue(Class<?> type) {
+            List<Accessors.Getter> getters = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    getters.add(Accessors.getter(field));
+                } catch (IllegalStateException e) {
+                    // Not accessible - skip
+                }
+            }
+            return getters.toArray(new Accessors.Getter[0]);
+        }
+    };
+
+    /**
+     * getId() of a spawn class, or a no-op returning a non-null marker when it has none.
+     */
+    private static final Object NO_ID = new Object();
+    private static final ClassValue<Accessors.Invoker> GET_ID = new ClassValue<>() {
+        @Override
+        protected Accessors.Invoker computeValue(Class<?> type) {
+            try {
+                return Accessors.invoker(type.getMethod("getId"));
+            } catch (NoSuchMethodException | IllegalStateException e) {
+                return spawn -> NO_ID;
+            }
+        }
+    };
+
     public SpawnBeaconSanitizer(Hyzer plugin) {
         this.plugin = plugin;
         // Try to discover API early so getQuery() works at registration time
@@ -195,6 +241,7 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             return;
         }
 
+        long start = cost.start();
         try {
             checkedCount++;
 
@@ -214,6 +261,8 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
                     "[SpawnBeaconSanitizer] Error during validation: " + e.getMessage()
                 );
             }
+        } finally {
+            cost.stop(start);
         }
     }
 
@@ -448,18 +497,26 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
         try {
             Object spawns = null;
 
+            if (!spawnsBound) {
+                spawnsBound = true;
+                if (spawnsField != null) {
+                    spawnsGetter = Accessors.getter(spawnsField);
+                } else if (getSpawnsMethod != null) {
+                    getSpawns = Accessors.invoker(getSpawnsMethod);
+                }
+            }
+
             // Try to get spawns via field
-            if (spawnsField != null) {
-                spawns = spawnsField.get(controller);
-            } else if (getSpawnsMethod != null) {
-                spawns = getSpawnsMethod.invoke(controller);
+            if (spawnsGetter != null) {
+                spawns = spawnsGetter.get(controller);
+            } else if (getSpawns != null) {
+                spawns = getSpawns.invoke(controller);
             }
 
             if (spawns == null) {
                 // Try to find any field that looks like a collection of spawns
-                for (Field field : controller.getClass().getDeclaredFields()) {
-                    field.setAccessible(true);
-                    Object value = field.get(controller);
+                for (Accessors.Getter getter : FIELD_GETTERS.get(controller.getClass())) {
+                    Object value = getter.get(controller);
                     if (value instanceof Collection || value instanceof Map ||
                         (value != null && value.getClass().isArray())) {
                         spawns = value;
@@ -564,14 +621,11 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
         if (spawn == null) return true;
 
         try {
-            // Check if getId() would return null or throw
-            Method getIdMethod = spawn.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(spawn);
+            // Check if getId() would return null or throw (no getId method: can't validate this way)
+            Object id = GET_ID.get(spawn.getClass()).invoke(spawn);
             if (id == null) {
                 return true;
             }
-        } catch (NoSuchMethodException e) {
-            // No getId method, can't validate this way
         } catch (Exception e) {
             // getId() threw an exception, spawn is invalid
             return true;
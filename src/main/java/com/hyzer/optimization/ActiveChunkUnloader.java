@@ -3,6 +3,7 @@ package com.hyzer.optimization;
 import com.hyzer.config.HyzerConfig;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.math.shape.Box2D;
 import com.hypixel.hytale.math.util.ChunkUtil;
@@ -12,171 +13,531 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.chunk.ChunkFlag;
 import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.hypixel.hytale.server.core.universe.world.events.ecs.ChunkSaveEvent;
 import com.hypixel.hytale.server.core.universe.world.events.ecs.ChunkUnloadEvent;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.hypixel.hytale.server.core.universe.world.storage.component.ChunkSavingSystems;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
-import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unloads chunks that have been out of every player's range for a while.
+ *
+ * Work is time-sliced: {@link #execute()} only requests a new pass per world, and
+ * {@link #tick()} posts at most one slice per world to the world thread. Each slice resumes
+ * from a cursor into a snapshot of the chunk indexes taken at the start of the pass and stops
+ * once its microsecond budget is spent, so a world with tens of thousands of loaded chunks
+ * spreads the scan across many ticks instead of stalling one.
+ *
+ * A pass has two phases. The scan phase ages every out-of-range chunk and queues the ones
+ * past the unload delay in a min-heap keyed by when they left range. The eviction phase then
+ * pops the coldest chunks first, so when {@code maxUnloadsPerRun} is hit it is the long-idle
+ * chunks that go, not whichever ones the hash set happened to yield first.
+ *
+ * While {@link MemoryPressureMonitor} reports pressure, passes use the aggressive delay,
+ * distance offset and per-pass cap from {@code chunkUnloader.memoryPressure} instead. The
+ * load governor can also request a per-world level in between via {@link #setLoadLevel(String, double)}.
+ *
+ * Coverage includes each moving player's projected path for {@code lookaheadSeconds}, so
+ * chunks ahead of a flying or riding player are not unloaded just before they arrive.
+ *
+ * Dirty chunks are not skipped forever: once past the delay, the oldest are handed to the
+ * world's save queue in batches of {@code maxSaveRequestsPerRun} per pass and unloaded by a
+ * later pass once the save has completed, spreading the I/O out instead of bunching it up
+ * behind the next autosave.
+ *
+ * Worlds matched by {@code chunkUnloader.worldBudgets} also get a hard cap on loaded chunks.
+ * While a world is over its cap, unloadable chunks still inside the delay window are queued
+ * as well and evicted coldest-first, ignoring {@code maxUnloadsPerRun}, until it is back under.
+ */
 public class ActiveChunkUnloader {
 
+    // Check the clock every N chunks rather than on every one
+    private static final int BUDGET_CHECK_INTERVAL = 16;
+
     private final HytaleLogger logger;
     private final HyzerConfig.OptimizationConfig config;
-    private final Map<String, Long2LongOpenHashMap> outOfRangeSinceByWorld = new ConcurrentHashMap<>();
+    private final Map<String, WorldState> statesByWorld = new ConcurrentHashMap<>();
+    private final MemoryPressureMonitor memoryPressure;
 
     public ActiveChunkUnloader(HytaleLogger logger, HyzerConfig.OptimizationConfig config) {
         this.logger = logger.getSubLogger("ActiveChunkUnloader");
         this.config = config;
+        this.memoryPressure = new MemoryPressureMonitor(this.logger,
+                config != null && config.chunkUnloader != null ? config.chunkUnloader.memoryPressure : null);
     }
 
+    /**
+     * Request a new unload pass for every world. Worlds still finishing a previous
+     * pass keep going and pick the request up once they are done.
+     */
     public void execute() {
-        if (config == null || !config.enabled || config.chunkUnloader == null || !config.chunkUnloader.enabled) {
+        if (!isEnabled()) {
             return;
         }
 
         // Clean cached state for worlds that no longer exist
         var worldsByName = Universe.get().getWorlds();
-        outOfRangeSinceByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+        statesByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
 
-        int baseViewRadius = Math.max(config.maxViewRadius, 1);
-        int offset = Math.max(config.chunkUnloader.unloadDistanceOffset, 0);
-        int safeRadius = Math.max(baseViewRadius + offset, 2);
+        memoryPressure.sample();
 
         for (World world : worldsByName.values()) {
-            world.execute(() -> unloadWorld(world, safeRadius));
+            statesByWorld.computeIfAbsent(world.getName(), key -> new WorldState()).passRequested = true;
         }
     }
 
-    private void unloadWorld(World world, int safeRadius) {
-        if (!world.getWorldConfig().canUnloadChunks()) {
+    /**
+     * Post the next slice for every world with a pending or running pass. Worlds between
+     * passes get a player motion sample instead, every {@link PlayerMotionTracker#SAMPLE_INTERVAL_NANOS},
+     * so the velocity estimate is current when the next pass projects it.
+     * Called once per server tick interval.
+     */
+    public void tick() {
+        if (!isEnabled()) {
             return;
         }
 
+        long now = System.nanoTime();
+        var worldsByName = Universe.get().getWorlds();
+        for (var entry : statesByWorld.entrySet()) {
+            WorldState state = entry.getValue();
+            boolean slice = state.passActive || state.passRequested;
+            if (!slice && now - state.lastMotionSampleNanos < PlayerMotionTracker.SAMPLE_INTERVAL_NANOS) {
+                continue;
+            }
+            World world = worldsByName.get(entry.getKey());
+            if (world == null) {
+                continue;
+            }
+            // Never queue a second task while the world thread hasn't run the first one
+            if (!state.slicePending.compareAndSet(false, true)) {
+                continue;
+            }
+            if (!slice) {
+                state.lastMotionSampleNanos = now;
+            }
+            world.execute(() -> {
+                try {
+                    if (slice) {
+                        runSlice(world, state);
+                    } else {
+                        state.motion.sample(world.getPlayerRefs(), System.nanoTime());
+                    }
+                } finally {
+                    state.slicePending.set(false);
+                }
+            });
+        }
+    }
+
+    private boolean isEnabled() {
+        return config != null && config.enabled && config.chunkUnloader != null && config.chunkUnloader.enabled;
+    }
+
+    /**
+     * Set how aggressive unload passes in one world should be, from 0 (normal settings) to 1
+     * (the {@code memoryPressure} aggressive settings). Used by the load governor; memory
+     * pressure always forces level 1. Takes effect from the world's next pass.
+     */
+    public void setLoadLevel(String worldName, double level) {
+        statesByWorld.computeIfAbsent(worldName, key -> new WorldState()).loadLevel = Math.max(0.0, Math.min(1.0, level));
+    }
+
+    private boolean isAggressive() {
+        return memoryPressure.isUnderPressure();
+    }
+
+    private double getPressureLevel(WorldState state) {
+        if (config.chunkUnloader.memoryPressure == null) {
+            return 0.0;
+        }
+        return isAggressive() ? 1.0 : state.loadLevel;
+    }
+
+    private int getSafeRadius(double level) {
+        int baseViewRadius = Math.max(config.maxViewRadius, 1);
+        int offset = level > 0.0
+                ? lerp(config.chunkUnloader.unloadDistanceOffset, config.chunkUnloader.memoryPressure.aggressiveDistanceOffset, level)
+                : config.chunkUnloader.unloadDistanceOffset;
+        return Math.max(baseViewRadius + Math.max(offset, 0), 2);
+    }
+
+    private long getDelayNanos(double level) {
+        int delaySeconds = level > 0.0
+                ? lerp(config.chunkUnloader.unloadDelaySeconds, config.chunkUnloader.memoryPressure.aggressiveUnloadDelaySeconds, level)
+                : config.chunkUnloader.unloadDelaySeconds;
+        return Math.max(delaySeconds, 1) * 1_000_000_000L;
+    }
+
+    private int getMaxUnloads(double level) {
+        int maxUnloads = level > 0.0
+                ? lerp(config.chunkUnloader.maxUnloadsPerRun, config.chunkUnloader.memoryPressure.aggressiveMaxUnloadsPerRun, level)
+                : config.chunkUnloader.maxUnloadsPerRun;
+        return Math.max(maxUnloads, 1);
+    }
+
+    private static int lerp(int from, int to, double t) {
+        return (int) Math.round(from + (to - from) * t);
+    }
+
+    private void runSlice(World world, WorldState state) {
         ChunkStore chunkStore = world.getChunkStore();
-        if (chunkStore.getLoadedChunksCount() < config.chunkUnloader.minLoadedChunks) {
+        if (!state.passActive && !beginPass(world, chunkStore, state)) {
             return;
         }
 
-        List<Long> playerChunkIndexes = collectPlayerChunkIndexes(world.getPlayerRefs());
-        Long2LongOpenHashMap outOfRangeSince = outOfRangeSinceByWorld.computeIfAbsent(world.getName(), key -> {
-            Long2LongOpenHashMap map = new Long2LongOpenHashMap();
-            map.defaultReturnValue(0L);
-            return map;
-        });
+        long sliceStart = System.nanoTime();
+        long budgetNanos = Math.max(config.chunkUnloader.sliceBudgetMicros, 1) * 1_000L;
+        state.slices++;
 
-        long now = System.nanoTime();
-        int unloaded = 0;
-        LongSet chunkIndexes = chunkStore.getChunkIndexes();
-        LongIterator iterator = chunkIndexes.iterator();
+        // Players move between slices, so coverage is rebuilt every time (cheap: one span per row)
+        markPlayerCoverage(state, world.getPlayerRefs(), sliceStart);
 
-        while (iterator.hasNext()) {
-            long chunkIndex = iterator.nextLong();
-            Ref<ChunkStore> chunkRef = chunkStore.getChunkReference(chunkIndex);
-            if (chunkRef == null || !chunkRef.isValid()) {
-                outOfRangeSince.remove(chunkIndex);
-                continue;
+        int processed = 0;
+
+        // Phase 1: walk the snapshot, age out-of-range chunks and queue the ones past the delay
+        // (or every unloadable chunk, while the world is over its residency budget)
+        while (state.cursor < state.snapshotSize) {
+            scanChunk(world, chunkStore, state, state.snapshot[state.cursor++], sliceStart);
+            if (++processed % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - sliceStart >= budgetNanos) {
+                return;
             }
+        }
 
-            WorldChunk worldChunk = chunkStore.getStore().getComponent(chunkRef, WorldChunk.getComponentType());
-            if (worldChunk == null) {
-                outOfRangeSince.remove(chunkIndex);
-                continue;
+        // Phase 2: evict the coldest candidates first until the per-pass cap is reached. Past the
+        // cap, or inside the delay window, only chunks needed to get back under budget are evicted.
+        ChunkEvictionQueue candidates = state.candidates;
+        while (!candidates.isEmpty()) {
+            boolean overBudget = state.overBudget > 0;
+            boolean pastDelay = sliceStart - candidates.peekPriority() >= state.delayNanos;
+            if (!overBudget && (!pastDelay || state.unloaded >= state.maxUnloads)) {
+                break;
             }
 
-            if (worldChunk.shouldKeepLoaded() || worldChunk.getNeedsSaving() || isInKeepLoadedRegion(world, worldChunk)) {
-                outOfRangeSince.remove(chunkIndex);
-                continue;
+            if (evictChunk(world, chunkStore, state, candidates.poll(), sliceStart, overBudget)) {
+                state.unloaded++;
+                state.overBudget--;
             }
+            if (++processed % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - sliceStart >= budgetNanos) {
+                return;
+            }
+        }
 
-            if (isChunkNeeded(playerChunkIndexes, chunkIndex, safeRadius)) {
-                outOfRangeSince.remove(chunkIndex);
-                continue;
+        // Phase 3: ask the saving system to flush the oldest dirty out-of-range chunks, a batch
+        // at a time. They are unloaded by a later pass once the save has gone through.
+        ChunkEvictionQueue dirty = state.dirtyCandidates;
+        while (!dirty.isEmpty() && state.savesRequested < config.chunkUnloader.maxSaveRequestsPerRun) {
+            if (requestSave(chunkStore, state, dirty.poll(), sliceStart)) {
+                state.savesRequested++;
+            }
+            if (++processed % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - sliceStart >= budgetNanos) {
+                return;
             }
+        }
 
-            long firstOut = outOfRangeSince.get(chunkIndex);
-            if (firstOut == 0L) {
-                outOfRangeSince.put(chunkIndex, now);
-                continue;
+        finishPass(world, state);
+    }
+
+    private boolean beginPass(World world, ChunkStore chunkStore, WorldState state) {
+        state.passRequested = false;
+
+        if (!world.getWorldConfig().canUnloadChunks()) {
+            return false;
+        }
+        int loadedChunks = chunkStore.getLoadedChunksCount();
+        int budget = resolveChunkBudget(world);
+        int overBudget = budget > 0 ? loadedChunks - budget : 0;
+        if (overBudget <= 0 && loadedChunks < config.chunkUnloader.minLoadedChunks) {
+            return false;
+        }
+
+        LongSet chunkIndexes = chunkStore.getChunkIndexes();
+        state.snapshotSize = chunkIndexes.size();
+        state.snapshot = chunkIndexes.toArray(state.snapshot);
+        // Chunks unloaded by something else since the last pass never reach forget()
+        pruneUnloaded(state.outOfRangeSince, chunkIndexes);
+        pruneUnloaded(state.saveRequestedAt, chunkIndexes);
+        state.cursor = 0;
+        state.candidates.clear();
+        state.dirtyCandidates.clear();
+        state.unloaded = 0;
+        state.savesRequested = 0;
+        state.slices = 0;
+        // Parameters are fixed for the whole pass so slices agree with each other
+        double level = getPressureLevel(state);
+        state.safeRadius = getSafeRadius(level);
+        state.delayNanos = getDelayNanos(level);
+        state.maxUnloads = getMaxUnloads(level);
+        state.aggressive = isAggressive();
+        state.level = level;
+        state.overBudget = overBudget;
+        state.budget = budget;
+        state.passActive = true;
+        return true;
+    }
+
+    private static void pruneUnloaded(Long2LongOpenHashMap byChunk, LongSet loaded) {
+        if (byChunk.isEmpty()) {
+            return;
+        }
+        ObjectIterator<Long2LongMap.Entry> iterator = Long2LongMaps.fastIterator(byChunk);
+        while (iterator.hasNext()) {
+            if (!loaded.contains(iterator.next().getLongKey())) {
+                iterator.remove();
             }
+        }
+    }
 
-            long delayNanos = Math.max(config.chunkUnloader.unloadDelaySeconds, 1) * 1_000_000_000L;
-            if (now - firstOut < delayNanos) {
-                continue;
+    private void finishPass(World world, WorldState state) {
+        state.passActive = false;
+        state.candidates.clear();
+        state.dirtyCandidates.clear();
+        if (state.unloaded > 0) {
+            String mode = state.aggressive ? " (memory pressure)"
+                    : state.level > 0.0 ? String.format(" (load level %.2f)", state.level) : "";
+            logger.atInfo().log("[World %s] Optimization: Unloaded %d inactive chunks over %d slice(s)%s.",
+                    world.getName(), state.unloaded, state.slices, mode);
+        }
+        if (state.savesRequested > 0) {
+            logger.atFine().log("[World %s] Optimization: Requested saves for %d dirty inactive chunks.",
+                    world.getName(), state.savesRequested);
+        }
+        if (state.overBudget > 0) {
+            logger.atWarning().log("[World %s] Still %d chunk(s) over the residency budget of %d - remaining chunks are pinned, dirty or near players.",
+                    world.getName(), state.overBudget, state.budget);
+        }
+    }
+
+    /**
+     * Update a chunk's out-of-range timer and queue it for eviction once it has been
+     * out of range for longer than the unload delay. While the world is over budget,
+     * chunks inside the delay window are queued too (they sort after the past-delay ones).
+     *
+     * Dirty chunks keep their timer and, once past the delay, are queued for a save instead.
+     */
+    private void scanChunk(World world, ChunkStore chunkStore, WorldState state, long chunkIndex, long now) {
+        Long2LongOpenHashMap outOfRangeSince = state.outOfRangeSince;
+
+        WorldChunk worldChunk = getIdleChunk(world, chunkStore, state, chunkIndex);
+        boolean dirty = worldChunk != null && isDirty(worldChunk);
+        if (worldChunk == null || (dirty && !config.chunkUnloader.saveDirtyChunks)) {
+            forget(state, chunkIndex);
+            return;
+        }
+
+        long firstOut = outOfRangeSince.get(chunkIndex);
+        if (firstOut == 0L) {
+            firstOut = now;
+            outOfRangeSince.put(chunkIndex, now);
+        }
+
+        if (dirty) {
+            if (now - firstOut >= state.delayNanos) {
+                state.dirtyCandidates.add(firstOut, chunkIndex);
             }
+            return;
+        }
+
+        state.saveRequestedAt.remove(chunkIndex);
+        if (state.overBudget > 0 || now - firstOut >= state.delayNanos) {
+            state.candidates.add(firstOut, chunkIndex);
+        }
+    }
 
-            if (worldChunk.is(ChunkFlag.TICKING)) {
-                worldChunk.setFlag(ChunkFlag.TICKING, false);
+    /**
+     * Re-validate a queued candidate (the world may have changed since it was scanned)
+     * and unload it. Returns true if it was unloaded.
+     *
+     * A normal eviction first stops a ticking chunk and gives it another delay window; a
+     * budget eviction ({@code force}) stops and unloads it in one go.
+     */
+    private boolean evictChunk(World world, ChunkStore chunkStore, WorldState state, long chunkIndex, long now,
+                               boolean force) {
+        Long2LongOpenHashMap outOfRangeSince = state.outOfRangeSince;
+
+        WorldChunk worldChunk = getIdleChunk(world, chunkStore, state, chunkIndex);
+        if (worldChunk == null) {
+            forget(state, chunkIndex);
+            return false;
+        }
+        if (isDirty(worldChunk)) {
+            // Became dirty since the scan - leave it to the save phase of a later pass
+            return false;
+        }
+
+        if (worldChunk.is(ChunkFlag.TICKING)) {
+            worldChunk.setFlag(ChunkFlag.TICKING, false);
+            if (!force) {
                 outOfRangeSince.put(chunkIndex, now);
-                continue;
+                return false;
             }
+        }
 
-            ChunkUnloadEvent event = new ChunkUnloadEvent(worldChunk);
-            chunkStore.getStore().invoke(chunkRef, event);
-            if (event.isCancelled()) {
-                if (event.willResetKeepAlive()) {
-                    worldChunk.resetKeepAlive();
-                }
-                outOfRangeSince.remove(chunkIndex);
-                continue;
+        Ref<ChunkStore> chunkRef = chunkStore.getChunkReference(chunkIndex);
+        ChunkUnloadEvent event = new ChunkUnloadEvent(worldChunk);
+        chunkStore.getStore().invoke(chunkRef, event);
+        if (event.isCancelled()) {
+            if (event.willResetKeepAlive()) {
+                worldChunk.resetKeepAlive();
             }
-
-            chunkStore.remove(chunkRef, RemoveReason.UNLOAD);
             outOfRangeSince.remove(chunkIndex);
-            unloaded++;
+            return false;
+        }
 
-            if (unloaded >= config.chunkUnloader.maxUnloadsPerRun) {
-                break;
-            }
+        chunkStore.remove(chunkRef, RemoveReason.UNLOAD);
+        forget(state, chunkIndex);
+        return true;
+    }
+
+    /**
+     * Fire {@link ChunkSaveEvent} for a dirty idle chunk and, unless a listener cancels it,
+     * push it onto the world's save queue - the same path the autosave system uses.
+     * Returns true if a save was requested.
+     */
+    private boolean requestSave(ChunkStore chunkStore, WorldState state, long chunkIndex, long now) {
+        Ref<ChunkStore> chunkRef = chunkStore.getChunkReference(chunkIndex);
+        if (chunkRef == null || !chunkRef.isValid()) {
+            return false;
         }
 
-        if (unloaded > 0) {
-            logger.atInfo().log("[World %s] Optimization: Unloaded %d inactive chunks.", world.getName(), unloaded);
+        Store<ChunkStore> store = chunkStore.getStore();
+        WorldChunk worldChunk = store.getComponent(chunkRef, WorldChunk.getComponentType());
+        if (worldChunk == null || !worldChunk.getNeedsSaving() || worldChunk.isSaving()) {
+            return false;
         }
+
+        // Don't queue the same chunk again while an earlier request may still be pending
+        long lastRequest = state.saveRequestedAt.get(chunkIndex);
+        long retryNanos = Math.max(config.chunkUnloader.saveRetrySeconds, 1) * 1_000_000_000L;
+        if (lastRequest != 0L && now - lastRequest < retryNanos) {
+            return false;
+        }
+
+        ChunkSaveEvent event = new ChunkSaveEvent(worldChunk);
+        store.invoke(chunkRef, event);
+        if (event.isCancelled()) {
+            return false;
+        }
+
+        ChunkSavingSystems.Data saveQueue = store.getResource(ChunkStore.SAVE_RESOURCE);
+        saveQueue.push(chunkRef);
+        state.saveRequestedAt.put(chunkIndex, now);
+        return true;
     }
 
-    private List<Long> collectPlayerChunkIndexes(java.util.Collection<PlayerRef> players) {
-        List<Long> playerChunkIndexes = new ArrayList<>();
-        if (players == null || players.isEmpty()) {
-            return playerChunkIndexes;
+    private static boolean isDirty(WorldChunk worldChunk) {
+        return worldChunk.getNeedsSaving() || worldChunk.isSaving();
+    }
+
+    private static void forget(WorldState state, long chunkIndex) {
+        state.outOfRangeSince.remove(chunkIndex);
+        state.saveRequestedAt.remove(chunkIndex);
+    }
+
+    /**
+     * Resolve a chunk that is loaded, not pinned and outside every player's safe radius.
+     * Returns null if the chunk must stay. The chunk may still be dirty.
+     */
+    private WorldChunk getIdleChunk(World world, ChunkStore chunkStore, WorldState state, long chunkIndex) {
+        Ref<ChunkStore> chunkRef = chunkStore.getChunkReference(chunkIndex);
+        if (chunkRef == null || !chunkRef.isValid()) {
+            return null;
         }
 
-        for (PlayerRef player : players) {
-            if (player == null) {
-                continue;
-            }
-            Transform transform = player.getTransform();
-            if (transform == null) {
-                continue;
-            }
-            int chunkX = ChunkUtil.chunkCoordinate(transform.getPosition().getX());
-            int chunkZ = ChunkUtil.chunkCoordinate(transform.getPosition().getZ());
-            playerChunkIndexes.add(ChunkUtil.indexChunk(chunkX, chunkZ));
+        WorldChunk worldChunk = chunkStore.getStore().getComponent(chunkRef, WorldChunk.getComponentType());
+        if (worldChunk == null) {
+            return null;
+        }
+
+        if (worldChunk.shouldKeepLoaded() || isInKeepLoadedRegion(world, worldChunk)) {
+            return null;
         }
 
-        return playerChunkIndexes;
+        if (state.coverage.contains(chunkIndex)) {
+            return null;
+        }
+        return worldChunk;
     }
 
-    private boolean isChunkNeeded(List<Long> playerChunkIndexes, long chunkIndex, int safeRadius) {
-        for (long playerChunkIndex : playerChunkIndexes) {
-            if (getChebyshevDistance(chunkIndex, playerChunkIndex) <= safeRadius) {
-                return true;
+    /**
+     * Rasterize each player's safe radius, plus the path they are projected to travel,
+     * into the world's coverage index so the per-chunk "is this needed" check is a single
+     * bitmap lookup.
+     */
+    private void markPlayerCoverage(WorldState state, Collection<PlayerRef> players, long now) {
+        ChunkCoverageIndex coverage = state.coverage;
+        PlayerMotionTracker motion = state.motion;
+        coverage.reset();
+        motion.beginFrame();
+
+        if (players != null) {
+            double lookaheadSeconds = config.chunkUnloader.lookaheadSeconds;
+            int maxLookaheadChunks = config.chunkUnloader.maxLookaheadChunks;
+            for (PlayerRef player : players) {
+                if (player == null) {
+                    continue;
+                }
+                Transform transform = player.getTransform();
+                if (transform == null) {
+                    continue;
+                }
+                double x = transform.getPosition().getX();
+                double z = transform.getPosition().getZ();
+                coverage.markSquare(ChunkUtil.chunkCoordinate(x), ChunkUtil.chunkCoordinate(z), state.safeRadius);
+                motion.markProjectedPath(coverage, player, x, z, now, state.safeRadius,
+                        lookaheadSeconds, maxLookaheadChunks);
             }
         }
-        return false;
+
+        motion.endFrame();
     }
 
-    private int getChebyshevDistance(long index1, long index2) {
-        int x1 = ChunkUtil.xOfChunkIndex(index1);
-        int z1 = ChunkUtil.zOfChunkIndex(index1);
-        int x2 = ChunkUtil.xOfChunkIndex(index2);
-        int z2 = ChunkUtil.zOfChunkIndex(index2);
+    /**
+     * Find the loaded-chunk budget for a world: an exact name match wins, then
+     * {@code __DEFAULT} for the default world, then the longest matching {@code prefix*}.
+     * Returns 0 when the world has no budget.
+     */
+    private int resolveChunkBudget(World world) {
+        HyzerConfig.WorldChunkBudgetConfig[] budgets = config.chunkUnloader.worldBudgets;
+        if (budgets == null || budgets.length == 0) {
+            return 0;
+        }
+
+        String worldName = world.getName();
+        World defaultWorld = Universe.get().getDefaultWorld();
+        boolean isDefault = defaultWorld != null && worldName.equals(defaultWorld.getName());
 
-        return Math.max(Math.abs(x1 - x2), Math.abs(z1 - z2));
+        int prefixBudget = 0;
+        int prefixLength = -1;
+        int defaultBudget = 0;
+        for (HyzerConfig.WorldChunkBudgetConfig budget : budgets) {
+            if (budget == null || budget.world == null || budget.world.isBlank()) {
+                continue;
+            }
+            String pattern = budget.world;
+            if (pattern.equals(worldName)) {
+                return Math.max(budget.maxLoadedChunks, 0);
+            }
+            if (isDefault && pattern.equals(TpsAdjuster.DEFAULT_WORLD)) {
+                defaultBudget = Math.max(budget.maxLoadedChunks, 0);
+            } else if (pattern.endsWith("*")) {
+                String prefix = pattern.substring(0, pattern.length() - 1);
+                if (worldName.startsWith(prefix) && prefix.length() > prefixLength) {
+                    prefixBudget = Math.max(budget.maxLoadedChunks, 0);
+                    prefixLength = prefix.length();
+                }
+            }
+        }
+        return defaultBudget > 0 ? defaultBudget : prefixBudget;
     }
 
     private boolean isInKeepLoadedRegion(World world, WorldChunk worldChunk) {
@@ -191,4 +552,42 @@ public class ActiveChunkUnloader {
         int maxZ = ChunkUtil.maxBlock(worldChunk.getZ());
         return maxX >= keepLoaded.min.x && minX <= keepLoaded.max.x && maxZ >= keepLoaded.min.y && minZ <= keepLoaded.max.y;
     }
+
+    /**
+     * Per-world unload state. Everything except the flags and the motion sample time is only
+     * touched on the world thread.
+     */
+    private static final class WorldState {
+        final Long2LongOpenHashMap outOfRangeSince = new Long2LongOpenHashMap();
+        final ChunkCoverageIndex coverage = new ChunkCoverageIndex();
+        final ChunkEvictionQueue candidates = new ChunkEvictionQueue();
+        final ChunkEvictionQueue dirtyCandidates = new ChunkEvictionQueue();
+        final Long2LongOpenHashMap saveRequestedAt = new Long2LongOpenHashMap();
+        final PlayerMotionTracker motion = new PlayerMotionTracker();
+        final AtomicBoolean slicePending = new AtomicBoolean(false);
+        volatile boolean passRequested = false;
+        volatile boolean passActive = false;
+        volatile double loadLevel = 0.0;
+        // Only touched by the tick() caller
+        long lastMotionSampleNanos = 0L;
+
+        long[] snapshot = new long[0];
+        int snapshotSize = 0;
+        int cursor = 0;
+        int unloaded = 0;
+        int savesRequested = 0;
+        int slices = 0;
+        int safeRadius = 2;
+        long delayNanos = 0L;
+        int maxUnloads = 0;
+        boolean aggressive = false;
+        double level = 0.0;
+        int budget = 0;
+        int overBudget = 0;
+
+        WorldState() {
+            outOfRangeSince.defaultReturnValue(0L);
+            saveRequestedAt.defaultReturnValue(0L);
+        }
+    }
 }
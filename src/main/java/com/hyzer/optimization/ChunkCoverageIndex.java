@@ -0,0 +1,115 @@
+package com.hyzer.optimization;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+
+import java.util.Arrays;
+
+/**
+ * Primitive spatial index of chunk cells that must stay loaded.
+ *
+ * Cells are stored in 32x32 chunk tiles (one bit per chunk, 16 longs per tile) keyed by
+ * tile coordinate. Each tile carries the generation it was last written in, so {@link #reset()}
+ * is O(1): stale tiles are simply ignored by lookups and cleared lazily on their next write.
+ *
+ * Rasterizing a square of radius r costs O((2r + 1) * tiles-per-row) word writes, and
+ * {@link #contains(int, int)} is a single hash lookup plus a bit test - no boxing, no
+ * per-player distance loop.
+ *
+ * Not thread-safe: each world owns its own index and only touches it from the world thread.
+ */
+final class ChunkCoverageIndex {
+
+    private static final int TILE_SHIFT = 5;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    private static final int WORDS_PER_TILE = (TILE_SIZE * TILE_SIZE) / Long.SIZE;
+
+    // Stale tiles are dropped once they outnumber live ones by this factor
+    private static final int PRUNE_FACTOR = 4;
+    private static final int PRUNE_MIN_TILES = 64;
+
+    private final Long2ObjectOpenHashMap<Tile> tiles = new Long2ObjectOpenHashMap<>();
+    private int generation = 1;
+    private int liveTiles = 0;
+
+    /**
+     * Forget every marked cell. Tiles are kept for reuse unless too many have gone stale.
+     */
+    void reset() {
+        if (tiles.size() > PRUNE_MIN_TILES && tiles.size() > liveTiles * PRUNE_FACTOR) {
+            int current = generation;
+            ObjectIterator<Tile> iterator = tiles.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().generation != current) {
+                    iterator.remove();
+                }
+            }
+        }
+        generation++;
+        liveTiles = 0;
+    }
+
+    /**
+     * Mark every chunk within Chebyshev distance {@code radius} of (centerX, centerZ).
+     */
+    void markSquare(int centerX, int centerZ, int radius) {
+        int minX = centerX - radius;
+        int maxX = centerX + radius;
+        int minZ = centerZ - radius;
+        int maxZ = centerZ + radius;
+
+        for (int tileZ = minZ >> TILE_SHIFT; tileZ <= maxZ >> TILE_SHIFT; tileZ++) {
+            int tileBaseZ = tileZ << TILE_SHIFT;
+            int rowStart = Math.max(minZ, tileBaseZ) - tileBaseZ;
+            int rowEnd = Math.min(maxZ, tileBaseZ + TILE_MASK) - tileBaseZ;
+
+            for (int tileX = minX >> TILE_SHIFT; tileX <= maxX >> TILE_SHIFT; tileX++) {
+                int tileBaseX = tileX << TILE_SHIFT;
+                int colStart = Math.max(minX, tileBaseX) - tileBaseX;
+                int colEnd = Math.min(maxX, tileBaseX + TILE_MASK) - tileBaseX;
+                long rowMask = (-1L >>> (Long.SIZE - 1 - (colEnd - colStart))) << colStart;
+
+                long[] bits = writableTile(tileX, tileZ).bits;
+                for (int row = rowStart; row <= rowEnd; row++) {
+                    bits[row >> 1] |= rowMask << ((row & 1) << TILE_SHIFT);
+                }
+            }
+        }
+    }
+
+    boolean contains(long chunkIndex) {
+        return contains(ChunkUtil.xOfChunkIndex(chunkIndex), ChunkUtil.zOfChunkIndex(chunkIndex));
+    }
+
+    boolean contains(int chunkX, int chunkZ) {
+        Tile tile = tiles.get(ChunkUtil.indexChunk(chunkX >> TILE_SHIFT, chunkZ >> TILE_SHIFT));
+        if (tile == null || tile.generation != generation) {
+            return false;
+        }
+        int row = chunkZ & TILE_MASK;
+        int bit = ((row & 1) << TILE_SHIFT) + (chunkX & TILE_MASK);
+        return (tile.bits[row >> 1] & (1L << bit)) != 0L;
+    }
+
+    private Tile writableTile(int tileX, int tileZ) {
+        long key = ChunkUtil.indexChunk(tileX, tileZ);
+        Tile tile = tiles.get(key);
+        if (tile == null) {
+            tile = new Tile();
+            tiles.put(key, tile);
+        }
+        if (tile.generation != generation) {
+            Arrays.fill(tile.bits, 0L);
+            tile.generation = generation;
+            liveTiles++;
+        }
+        return tile;
+    }
+
+    private static final class Tile {
+        final long[] bits = new long[WORDS_PER_TILE];
+        int generation;
+    }
+}
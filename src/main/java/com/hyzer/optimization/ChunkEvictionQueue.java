@@ -0,0 +1,95 @@
+package com.hyzer.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Primitive binary min-heap of chunk indexes ordered by a long priority.
+ *
+ * The unloader uses the chunk's {@code outOfRangeSince} timestamp as the priority, so
+ * {@link #poll()} always hands back the chunk that has been idle the longest. Priorities
+ * and chunk indexes live in parallel {@code long[]} arrays - no boxing, no entry objects -
+ * and the arrays are kept between passes so a steady-state pass allocates nothing.
+ *
+ * Not thread-safe: each world owns its own queue and only touches it from the world thread.
+ */
+final class ChunkEvictionQueue {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] priorities = new long[INITIAL_CAPACITY];
+    private long[] chunks = new long[INITIAL_CAPACITY];
+    private int size = 0;
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(long priority, long chunkIndex) {
+        if (size == priorities.length) {
+            int capacity = priorities.length << 1;
+            priorities = Arrays.copyOf(priorities, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+
+        // Sift up
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            priorities[i] = priorities[parent];
+            chunks[i] = chunks[parent];
+            i = parent;
+        }
+        priorities[i] = priority;
+        chunks[i] = chunkIndex;
+    }
+
+    /**
+     * Priority of the chunk {@link #poll()} would return next. Caller must check {@link #isEmpty()}.
+     */
+    long peekPriority() {
+        return priorities[0];
+    }
+
+    /**
+     * Remove and return the chunk index with the lowest priority. Caller must check {@link #isEmpty()}.
+     */
+    long poll() {
+        long result = chunks[0];
+        int last = --size;
+        if (last > 0) {
+            siftDown(priorities[last], chunks[last], last);
+        }
+        return result;
+    }
+
+    private void siftDown(long priority, long chunkIndex, int limit) {
+        int i = 0;
+        int half = limit >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            int right = child + 1;
+            if (right < limit && priorities[right] < priorities[child]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            priorities[i] = priorities[child];
+            chunks[i] = chunks[child];
+            i = child;
+        }
+        priorities[i] = priority;
+        chunks[i] = chunkIndex;
+    }
+}
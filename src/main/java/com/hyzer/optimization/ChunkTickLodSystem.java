@@ -0,0 +1,297 @@
+package com.hyzer.optimization;
+
+import com.hyzer.config.HyzerConfig;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.ChunkFlag;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Tick level of detail for the ring of loaded chunks just outside the players' hot radius.
+ *
+ * Chunks within the hot radius are left to the engine. Chunks in the ring
+ * {@code (hotRadius, hotRadius + ringChunks]} are given {@link ChunkFlag#TICKING} for a single
+ * tick every N ticks and have it cleared again on the next one. N doubles every
+ * {@code bandChunks} of distance, up to {@code maxTickInterval}, so the outer ring keeps
+ * moving (crops, fluids, furnaces) at a fraction of the cost instead of stopping outright.
+ *
+ * The ring is rebuilt every {@code rebuildIntervalTicks}; the hot region is re-marked every
+ * tick so a chunk a player just walked into is never switched off by mistake. On rebuild, the
+ * chunks of each interval N are split into N phase buckets by a hash of the chunk index, so a
+ * tick only visits the buckets that are due instead of the whole ring.
+ *
+ * Chunks woken for a tick must be switched off again by the next one. A world that slows down
+ * (hibernation) or a plugin that stops first calls {@link #release(World)} /
+ * {@link #restore()}, which do that straight away.
+ */
+public class ChunkTickLodSystem extends TickingSystem<ChunkStore> {
+
+    private static final int STATE_CLEANUP_INTERVAL_TICKS = 1200;
+
+    private final HytaleLogger logger;
+    private final HyzerConfig.ChunkTickLodConfig config;
+    private final ToIntFunction<String> hotRadius;
+    private final Map<String, LodState> statesByWorld = new ConcurrentHashMap<>();
+    private volatile boolean stopped = false;
+    private boolean loggedOnce = false;
+
+    public ChunkTickLodSystem(HytaleLogger logger, HyzerConfig.ChunkTickLodConfig config,
+                              ToIntFunction<String> hotRadius) {
+        this.logger = logger.getSubLogger("ChunkTickLod");
+        this.config = config;
+        this.hotRadius = hotRadius;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, Store<ChunkStore> store) {
+        if (config == null || !config.enabled || stopped) {
+            return;
+        }
+
+        ChunkStore chunkStore = store.getExternalData();
+        World world = chunkStore.getWorld();
+        if (world == null || world.getName() == null) {
+            return;
+        }
+
+        if (!loggedOnce) {
+            logger.atInfo().log("Active - outer ring chunks tick every 2..%d ticks", config.maxTickInterval);
+            loggedOnce = true;
+        }
+
+        LodState state = statesByWorld.computeIfAbsent(world.getName(), key -> new LodState());
+        long tick = ++state.tick;
+        int hot = Math.max(hotRadius.applyAsInt(world.getName()), 1);
+        Collection<PlayerRef> players = world.getPlayerRefs();
+
+        // Hot region is cheap to mark (one span per row) and must be current
+        markHotRegion(state, players, hot);
+
+        // Switch off the chunks this system woke up last tick
+        LongArrayList awake = state.awake;
+        for (int i = 0, n = awake.size(); i < n; i++) {
+            long chunkIndex = awake.getLong(i);
+            if (state.hot.contains(chunkIndex)) {
+                continue;
+            }
+            WorldChunk worldChunk = getChunk(chunkStore, store, chunkIndex);
+            if (worldChunk != null) {
+                worldChunk.setFlag(ChunkFlag.TICKING, false);
+            }
+        }
+        awake.clear();
+
+        if (tick % Math.max(config.rebuildIntervalTicks, 1) == 1 || state.intervals.isEmpty()) {
+            rebuildRing(state, players, hot);
+        }
+
+        // Wake the ring chunks whose turn it is this tick: one phase bucket per interval
+        for (int b = 0, bands = state.bands.size(); b < bands; b++) {
+            RingBand band = state.bands.get(b);
+            LongArrayList due = band.phases[(int) (tick % band.interval)];
+            for (int i = 0, n = due.size(); i < n; i++) {
+                long chunkIndex = due.getLong(i);
+                if (state.hot.contains(chunkIndex)) {
+                    continue;
+                }
+
+                WorldChunk worldChunk = getChunk(chunkStore, store, chunkIndex);
+                if (worldChunk == null || worldChunk.is(ChunkFlag.TICKING)) {
+                    continue;
+                }
+                worldChunk.setFlag(ChunkFlag.TICKING, true);
+                awake.add(chunkIndex);
+            }
+        }
+
+        if (tick % STATE_CLEANUP_INTERVAL_TICKS == 0) {
+            var worldsByName = Universe.get().getWorlds();
+            statesByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+        }
+    }
+
+    private void markHotRegion(LodState state, Collection<PlayerRef> players, int hot) {
+        state.hot.reset();
+        if (players == null) {
+            return;
+        }
+        for (PlayerRef player : players) {
+            Transform transform = player != null ? player.getTransform() : null;
+            if (transform == null) {
+                continue;
+            }
+            state.hot.markSquare(
+                    ChunkUtil.chunkCoordinate(transform.getPosition().getX()),
+                    ChunkUtil.chunkCoordinate(transform.getPosition().getZ()),
+                    hot);
+        }
+    }
+
+    /**
+     * Switch off the chunks this system woke for the world's current tick and forget the world,
+     * e.g. before it hibernates. Call on the world thread.
+     */
+    public void release(World world) {
+        LodState state = statesByWorld.remove(world.getName());
+        if (state == null || state.awake.isEmpty()) {
+            return;
+        }
+        ChunkStore chunkStore = world.getChunkStore();
+        Store<ChunkStore> store = chunkStore.getStore();
+        LongArrayList awake = state.awake;
+        for (int i = 0, n = awake.size(); i < n; i++) {
+            long chunkIndex = awake.getLong(i);
+            if (state.hot.contains(chunkIndex)) {
+                continue;
+            }
+            WorldChunk worldChunk = getChunk(chunkStore, store, chunkIndex);
+            if (worldChunk != null) {
+                worldChunk.setFlag(ChunkFlag.TICKING, false);
+            }
+        }
+        awake.clear();
+    }
+
+    /**
+     * Stop waking chunks and switch off the ones still awake in every world, e.g. on shutdown.
+     * The release runs on each world's thread, after any tick in progress.
+     */
+    public void restore() {
+        stopped = true;
+        for (World world : Universe.get().getWorlds().values()) {
+            if (world != null && world.getName() != null && statesByWorld.containsKey(world.getName())) {
+                world.execute(() -> release(world));
+            }
+        }
+    }
+
+    /**
+     * Assign every ring chunk the tick interval for its distance to the nearest player, then
+     * bucket it by phase. Chunks that are not loaded are skipped when they come up, so the
+     * buckets may include them.
+     */
+    private void rebuildRing(LodState state, Collection<PlayerRef> players, int hot) {
+        Long2IntOpenHashMap intervals = state.intervals;
+        intervals.clear();
+        for (int b = 0, bands = state.bands.size(); b < bands; b++) {
+            for (LongArrayList phase : state.bands.get(b).phases) {
+                phase.clear();
+            }
+        }
+        if (players == null || players.isEmpty()) {
+            return;
+        }
+
+        int ring = Math.max(config.ringChunks, 0);
+        int band = Math.max(config.bandChunks, 1);
+        int maxInterval = Math.max(config.maxTickInterval, 2);
+        int outer = hot + ring;
+
+        for (PlayerRef player : players) {
+            Transform transform = player != null ? player.getTransform() : null;
+            if (transform == null) {
+                continue;
+            }
+            int centerX = ChunkUtil.chunkCoordinate(transform.getPosition().getX());
+            int centerZ = ChunkUtil.chunkCoordinate(transform.getPosition().getZ());
+
+            for (int dz = -outer; dz <= outer; dz++) {
+                for (int dx = -outer; dx <= outer; dx++) {
+                    int distance = Math.max(Math.abs(dx), Math.abs(dz));
+                    if (distance <= hot) {
+                        continue;
+                    }
+                    int interval = Math.min(2 << Math.min((distance - hot - 1) / band, 29), maxInterval);
+                    long chunkIndex = ChunkUtil.indexChunk(centerX + dx, centerZ + dz);
+                    // Nearest player wins (shortest interval)
+                    int existing = intervals.get(chunkIndex);
+                    if (existing == 0 || interval < existing) {
+                        intervals.put(chunkIndex, interval);
+                    }
+                }
+            }
+        }
+
+        // Due on the ticks where (tick + mix) % interval == 0; stagger by chunk so one ring
+        // doesn't all tick on the same frame
+        for (Long2IntMap.Entry entry : intervals.long2IntEntrySet()) {
+            long chunkIndex = entry.getLongKey();
+            int interval = entry.getIntValue();
+            int phase = Math.floorMod(-mix(chunkIndex), interval);
+            state.band(interval).phases[phase].add(chunkIndex);
+        }
+    }
+
+    private static WorldChunk getChunk(ChunkStore chunkStore, Store<ChunkStore> store, long chunkIndex) {
+        Ref<ChunkStore> chunkRef = chunkStore.getChunkReference(chunkIndex);
+        if (chunkRef == null || !chunkRef.isValid()) {
+            return null;
+        }
+        return store.getComponent(chunkRef, WorldChunk.getComponentType());
+    }
+
+    private static int mix(long chunkIndex) {
+        long h = chunkIndex * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 40) & 0xFFFF;
+    }
+
+    /**
+     * Per-world LOD state. Only touched from the world thread.
+     */
+    private static final class LodState {
+        final ChunkCoverageIndex hot = new ChunkCoverageIndex();
+        final Long2IntOpenHashMap intervals = new Long2IntOpenHashMap();
+        final List<RingBand> bands = new ArrayList<>();
+        final LongArrayList awake = new LongArrayList();
+        long tick = 0L;
+
+        /**
+         * Bucket set for an interval. Only a handful exist (powers of two up to the max),
+         * and they are kept across rebuilds so the lists are reused.
+         */
+        RingBand band(int interval) {
+            for (int i = 0, n = bands.size(); i < n; i++) {
+                if (bands.get(i).interval == interval) {
+                    return bands.get(i);
+                }
+            }
+            RingBand band = new RingBand(interval);
+            bands.add(band);
+            return band;
+        }
+    }
+
+    /**
+     * Ring chunks with one tick interval, bucketed by the tick (mod interval) they are due on.
+     */
+    private static final class RingBand {
+        final int interval;
+        final LongArrayList[] phases;
+
+        RingBand(int interval) {
+            this.interval = interval;
+            this.phases = new LongArrayList[interval];
+            for (int i = 0; i < interval; i++) {
+                phases[i] = new LongArrayList();
+            }
+        }
+    }
+}
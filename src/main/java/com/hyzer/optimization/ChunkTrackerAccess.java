@@ -0,0 +1,101 @@
+package com.hyzer.optimization;
+
+import com.hyzer.util.Accessors;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * Reflective access to a player's ChunkTracker hot radius, shared by the per-world radius controllers.
+ *
+ * The hot radius is the only per-player radius the ChunkTracker exposes; the view radius is a
+ * single server-wide setting. Members are bound through {@link Accessors} once, on first use,
+ * into static finals of {@link Members}, so the per-player calls are plain interface calls on
+ * constants, with no boxing.
+ */
+final class ChunkTrackerAccess {
+
+    private ChunkTrackerAccess() {
+    }
+
+    static Object getChunkTracker(PlayerRef playerRef) {
+        if (Members.GET_CHUNK_TRACKER == null) {
+            return null;
+        }
+        try {
+            return Members.GET_CHUNK_TRACKER.invoke(playerRef);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Set the player's hot (ticking) radius. Returns true if it changed.
+     */
+    static boolean setHotRadius(PlayerRef playerRef, int value) {
+        if (Members.SET_HOT_RADIUS == null || Members.GET_HOT_RADIUS == null) {
+            return false;
+        }
+        try {
+            Object tracker = getChunkTracker(playerRef);
+            if (tracker == null) {
+                return false;
+            }
+
+            int current = Members.GET_HOT_RADIUS.invoke(tracker);
+            if (current == value) {
+                return false;
+            }
+
+            Members.SET_HOT_RADIUS.invoke(tracker, value);
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bound on first use by class initialization, which also publishes the fields safely. The
+     * tracker class is the declared return type of PlayerRef.getChunkTracker(). A member that
+     * does not exist or cannot be bound stays null.
+     */
+    private static final class Members {
+        static final Accessors.Invoker GET_CHUNK_TRACKER;
+        static final Accessors.IntArgAction SET_HOT_RADIUS;
+        static final Accessors.IntInvoker GET_HOT_RADIUS;
+
+        static {
+            Method getChunkTracker = findMethod(PlayerRef.class, "getChunkTracker");
+            Class<?> trackerClass = getChunkTracker != null ? getChunkTracker.getReturnType() : null;
+            GET_CHUNK_TRACKER = bind(getChunkTracker, Accessors::invoker);
+
+            Method setHotRadius = findMethod(trackerClass, "setMaxHotLoadedChunksRadius", int.class);
+            Method getHotRadius = findMethod(trackerClass, "getMaxHotLoadedChunksRadius");
+            SET_HOT_RADIUS = bind(setHotRadius, Accessors::intArgAction);
+            GET_HOT_RADIUS = bind(getHotRadius, Accessors::intInvoker);
+        }
+
+        private static <T> T bind(Method method, Function<Method, T> binder) {
+            if (method == null) {
+                return null;
+            }
+            try {
+                return binder.apply(method);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+            if (owner == null) {
+                return null;
+            }
+            try {
+                return owner.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+}
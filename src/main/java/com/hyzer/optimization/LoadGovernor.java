@@ -0,0 +1,191 @@
+package com.hyzer.optimization;
+
+import com.hyzer.config.HyzerConfig;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.HytaleServer;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single controller for server load, replacing the independent TPS-threshold adjusters.
+ *
+ * Each world is controlled on its own. Every evaluation combines four inputs into one
+ * load figure per world:
+ *   - tick load: the world's average tick length / tick step (1.0 = full budget)
+ *   - tail load: how far the {@code tailPercentile} tick time overruns the step, beyond
+ *     {@code tailTolerance}, weighted by {@code tailWeight} (catches stutter the average hides)
+ *   - heap load: old-gen occupancy after GC / {@code highHeapPercent} (1.0 = at the pressure
+ *     line, shared), sampled by the governor's own {@link MemoryPressureMonitor} on every
+ *     evaluation, whether or not the chunk unloader is enabled
+ *   - player load: players in the world / {@code playerSoftCap}, weighted by {@code playerWeight}
+ *
+ * A PID controller per world drives a degradation level in [0, 1] from the error against
+ * {@code targetLoad}. The level is then mapped onto view radius, hot radius and chunk unload
+ * aggressiveness together, so the three outputs never pull against each other. Hot radius and
+ * unload aggressiveness only affect the lagging world. The view radius is a single server-wide
+ * setting with no per-player or per-world setter, so it follows the most degraded world.
+ *
+ * Hysteresis: level changes smaller than {@code deadband} are ignored, and the level may only
+ * come back down (restore quality) once {@code minDwellSeconds} have passed since the last
+ * change. Degrading is never delayed.
+ */
+public class LoadGovernor {
+
+    private final HytaleLogger logger;
+    private final HyzerConfig.OptimizationConfig optimization;
+    private final HyzerConfig.LoadGovernorConfig config;
+    private final PerPlayerHotRadiusService hotRadiusService;
+    private final ActiveChunkUnloader chunkUnloader;
+    private final Map<String, WorldControl> controlByWorld = new ConcurrentHashMap<>();
+    private final MemoryPressureMonitor heapMonitor;
+    private final int initialViewRadius;
+
+    public LoadGovernor(HytaleLogger logger, HyzerConfig.OptimizationConfig optimization,
+                        PerPlayerHotRadiusService hotRadiusService, ActiveChunkUnloader chunkUnloader) {
+        this.logger = logger.getSubLogger("LoadGovernor");
+        this.optimization = optimization;
+        this.config = optimization.governor;
+        this.hotRadiusService = hotRadiusService;
+        this.chunkUnloader = chunkUnloader;
+        // No pressure config: only the heap and GC figures are kept, no aggressive mode
+        this.heapMonitor = new MemoryPressureMonitor(this.logger, null);
+        this.initialViewRadius = HytaleServer.get().getConfig().getMaxViewRadius();
+    }
+
+    public void evaluate() {
+        if (!config.enabled) {
+            return;
+        }
+
+        var worldsByName = Universe.get().getWorlds();
+        controlByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+
+        long now = System.nanoTime();
+        heapMonitor.sample();
+        double heapLoad = getHeapLoad();
+        double maxLevel = 0.0;
+
+        for (World world : worldsByName.values()) {
+            WorldControl control = controlByWorld.computeIfAbsent(world.getName(),
+                    key -> new WorldControl(new PidController(config.kp, config.ki, config.kd, 0.0, 1.0)));
+            double level = evaluateWorld(world, control, heapLoad, now);
+            maxLevel = Math.max(maxLevel, level);
+
+            if (world.getPlayerCount() <= 0) {
+                continue;
+            }
+
+            // Re-applied every evaluation so players who joined since the last change pick it up
+            if (hotRadiusService != null && optimization.perPlayerRadius != null) {
+                hotRadiusService.applyRadius(world,
+                        mapRadius(level, optimization.perPlayerRadius.minRadius, optimization.perPlayerRadius.maxRadius));
+            }
+        }
+
+        int view = Math.min(mapRadius(maxLevel, optimization.minViewRadius, optimization.maxViewRadius),
+                Math.max(initialViewRadius, 1));
+        if (HytaleServer.get().getConfig().getMaxViewRadius() != view) {
+            HytaleServer.get().getConfig().setMaxViewRadius(view);
+            logger.atInfo().log("Global view radius -> %d (most degraded world level %.2f)", view, maxLevel);
+        }
+    }
+
+    private double evaluateWorld(World world, WorldControl control, double heapLoad, long now) {
+        double dtSeconds = control.lastEvaluationNanos == 0L ? 0.0 : (now - control.lastEvaluationNanos) / 1_000_000_000.0;
+        control.lastEvaluationNanos = now;
+
+        int players = world.getPlayerCount();
+        double tickLoad = TpsMonitor.getWorldTickLoad(world);
+        double overrun = TpsMonitor.getWorldTickOverrun(world, config.tailPercentile, config.tailWindowSeconds);
+        double tailLoad = Math.min(Math.max(overrun - config.tailTolerance, 0.0), 1.0) * config.tailWeight;
+        double playerLoad = config.playerSoftCap > 0
+                ? Math.min((double) players / config.playerSoftCap, 1.0) * config.playerWeight
+                : 0.0;
+        double load = Math.max(tickLoad, heapLoad) + tailLoad + playerLoad;
+        double error = load - config.targetLoad;
+
+        PidController pid = control.pid;
+        double desired;
+        if (players > 0) {
+            desired = pid.update(error, dtSeconds);
+        } else {
+            // Nobody to degrade for; start from scratch when someone arrives
+            pid.reset();
+            desired = 0.0;
+        }
+
+        double applied = control.appliedLevel;
+        double level = applied;
+        boolean dwellElapsed = now - control.lastChangeNanos >= Math.max(config.minDwellSeconds, 0) * 1_000_000_000L;
+        if (Math.abs(desired - applied) >= config.deadband) {
+            if (desired > applied || dwellElapsed) {
+                level = desired;
+            }
+        } else if (desired == 0.0 && applied > 0.0 && dwellElapsed) {
+            // Let the last small step down through the deadband once things are quiet
+            level = 0.0;
+        }
+
+        int viewRadius = mapRadius(level, optimization.minViewRadius, optimization.maxViewRadius);
+        int hotRadius = optimization.perPlayerRadius != null
+                ? mapRadius(level, optimization.perPlayerRadius.minRadius, optimization.perPlayerRadius.maxRadius)
+                : -1;
+
+        String decision = String.format(
+                "[World %s] load=%.2f (tick=%.2f tail=+%.2f heap=%.2f players=%d/+%.2f) error=%+.2f P=%.2f I=%.2f D=%.2f -> level %.2f (desired %.2f), view=%d hot=%d",
+                world.getName(), load, tickLoad, tailLoad, heapLoad, players, playerLoad, error,
+                pid.getLastP(), pid.getLastI(), pid.getLastD(), level, desired, viewRadius, hotRadius);
+
+        if (level != applied) {
+            control.appliedLevel = level;
+            control.lastChangeNanos = now;
+            logger.atInfo().log("Decision: %s", decision);
+        } else {
+            logger.atFine().log("Hold: %s", decision);
+        }
+
+        if (chunkUnloader != null) {
+            chunkUnloader.setLoadLevel(world.getName(), level);
+        }
+        return level;
+    }
+
+    private double getHeapLoad() {
+        // Raw used heap includes garbage a young GC is about to reclaim; the monitor reports
+        // what survives collection
+        if (config.highHeapPercent <= 0) {
+            return 0.0;
+        }
+        return heapMonitor.getHeapPercent() / config.highHeapPercent;
+    }
+
+    private static int mapRadius(double level, int minRadius, int maxRadius) {
+        int min = Math.max(minRadius, 1);
+        int max = Math.max(maxRadius, min);
+        return max - (int) Math.round(level * (max - min));
+    }
+
+    public void restore() {
+        HytaleServer.get().getConfig().setMaxViewRadius(initialViewRadius);
+        for (World world : Universe.get().getWorlds().values()) {
+            if (chunkUnloader != null) {
+                chunkUnloader.setLoadLevel(world.getName(), 0.0);
+            }
+        }
+        controlByWorld.clear();
+    }
+
+    private static final class WorldControl {
+        final PidController pid;
+        long lastEvaluationNanos = 0L;
+        long lastChangeNanos = 0L;
+        double appliedLevel = 0.0;
+
+        WorldControl(PidController pid) {
+            this.pid = pid;
+        }
+    }
+}
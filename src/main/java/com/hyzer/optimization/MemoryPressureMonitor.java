@@ -0,0 +1,174 @@
+package com.hyzer.optimization;
+
+import com.hyzer.config.HyzerConfig;
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tracks heap occupancy and the share of wall time spent in GC, using the standard
+ * management beans, and decides whether the server is under memory pressure.
+ *
+ * Heap occupancy is the tenured (old generation) pool as it was left by the last GC that
+ * collected it ({@link MemoryPoolMXBean#getCollectionUsage()}), i.e. live data rather than live
+ * data plus garbage not yet collected. Raw used heap routinely sits near its ceiling just before
+ * a young GC on G1, which would read as pressure during normal allocation. G1 only records this
+ * after mixed and full collections, so until the first of those the pool's current usage is
+ * used - still excluding eden and survivor garbage. If the JVM exposes no tenured pool with
+ * collection usage, raw used heap is used but only counts once it is still high on a sample
+ * taken after a GC has run.
+ *
+ * Uses hysteresis: pressure turns on when heap use reaches {@code highHeapPercent} or GC time
+ * reaches {@code gcTimePercent}, and only turns off once heap use is back under
+ * {@code lowHeapPercent} and GC time is back under the threshold.
+ */
+public class MemoryPressureMonitor {
+
+    private final HytaleLogger logger;
+    private final HyzerConfig.MemoryPressureConfig config;
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final MemoryPoolMXBean tenuredPool = findTenuredPool();
+
+    private long lastSampleNanos = 0L;
+    private long lastGcMillis = 0L;
+    private long highSinceGcCount = -1L;
+    private volatile boolean underPressure = false;
+    private volatile double heapPercent = 0.0;
+    private double gcPercent = 0.0;
+
+    public MemoryPressureMonitor(HytaleLogger logger, HyzerConfig.MemoryPressureConfig config) {
+        this.logger = logger;
+        this.config = config;
+    }
+
+    /**
+     * Take a new sample and update the pressure state. Should be called at a steady interval;
+     * GC time is measured as a fraction of the time since the previous call. Heap and GC figures
+     * are kept up to date even when the aggressive mode is disabled or there is no config (the
+     * load governor keeps its own instance without one, for the heap figure alone).
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        long gcMillis = getTotalGcMillis();
+        long gcCount = getTotalGcCount();
+        if (lastSampleNanos != 0L) {
+            long elapsedMillis = Math.max((now - lastSampleNanos) / 1_000_000L, 1L);
+            gcPercent = Math.min((gcMillis - lastGcMillis) * 100.0 / elapsedMillis, 100.0);
+        }
+        lastSampleNanos = now;
+        lastGcMillis = gcMillis;
+
+        heapPercent = sampleHeapPercent();
+        if (config == null || !config.enabled) {
+            underPressure = false;
+            return;
+        }
+        boolean heapHigh = isHeapHigh(gcCount);
+
+        boolean gcHigh = gcPercent >= config.gcTimePercent;
+        if (!underPressure && (heapHigh || gcHigh)) {
+            underPressure = true;
+            logger.atWarning().log("Memory pressure detected (heap %.1f%%, GC %.1f%%) - aggressive chunk unloading enabled",
+                    heapPercent, gcPercent);
+        } else if (underPressure && heapPercent < config.lowHeapPercent && !gcHigh) {
+            underPressure = false;
+            logger.atInfo().log("Memory pressure relieved (heap %.1f%%, GC %.1f%%) - normal chunk unloading restored",
+                    heapPercent, gcPercent);
+        }
+    }
+
+    public boolean isUnderPressure() {
+        return underPressure;
+    }
+
+    /**
+     * Old generation occupancy after the last GC, in percent of its maximum (raw used heap
+     * when the JVM has no such pool - see the class doc).
+     */
+    public double getHeapPercent() {
+        return heapPercent;
+    }
+
+    private double sampleHeapPercent() {
+        if (tenuredPool != null) {
+            MemoryUsage afterGc = tenuredPool.getCollectionUsage();
+            MemoryUsage usage = afterGc != null && afterGc.getUsed() > 0 ? afterGc : tenuredPool.getUsage();
+            long max = usage.getMax() > 0 ? usage.getMax() : memoryBean.getHeapMemoryUsage().getMax();
+            return max > 0 ? usage.getUsed() * 100.0 / max : 0.0;
+        }
+        MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+        long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        return max > 0 ? heap.getUsed() * 100.0 / max : 0.0;
+    }
+
+    /**
+     * Post-GC occupancy is trusted as is. A raw reading must have stayed at or above
+     * {@code highHeapPercent} since before the latest GC.
+     */
+    private boolean isHeapHigh(long gcCount) {
+        boolean high = heapPercent >= config.highHeapPercent;
+        if (tenuredPool != null) {
+            return high;
+        }
+        if (!high) {
+            highSinceGcCount = -1L;
+            return false;
+        }
+        if (highSinceGcCount < 0L) {
+            highSinceGcCount = gcCount;
+        }
+        return gcCount > highSinceGcCount;
+    }
+
+    /**
+     * The heap pool that holds long-lived objects: "G1 Old Gen", "PS Old Gen", "Tenured Gen",
+     * "ZGC Old Generation", ... For single-pool collectors (non-generational ZGC, Shenandoah)
+     * the only heap pool. Must support collection usage.
+     */
+    private static MemoryPoolMXBean findTenuredPool() {
+        MemoryPoolMXBean single = null;
+        int heapPools = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP || pool.getCollectionUsage() == null) {
+                continue;
+            }
+            heapPools++;
+            single = pool;
+            String name = pool.getName().toLowerCase(Locale.ROOT);
+            if (name.contains("old") || name.contains("tenured")) {
+                return pool;
+            }
+        }
+        return heapPools == 1 ? single : null;
+    }
+
+    private long getTotalGcCount() {
+        long total = 0L;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            long count = gcBean.getCollectionCount();
+            if (count > 0) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    private long getTotalGcMillis() {
+        long total = 0L;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            long time = gcBean.getCollectionTime();
+            if (time > 0) {
+                total += time;
+            }
+        }
+        return total;
+    }
+}
@@ -4,26 +4,26 @@ import com.hyzer.config.HyzerConfig;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.Method;
-import java.util.List;
-
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adjusts the hot (ticking) chunk radius of players per world, based on that world's TPS,
+ * so a lagging instance only shrinks the radius of the players inside it.
+ */
 public class PerPlayerHotRadiusService {
 
     private final HytaleLogger logger;
     private final HyzerConfig.PerPlayerRadiusConfig config;
-
-    private static volatile Method mGetChunkTracker;
-    private static volatile Method mSetHotRadius;
-    private static volatile Method mGetHotRadius;
-
-    private int currentTargetRadius;
+    private final Map<String, Integer> targetByWorld = new ConcurrentHashMap<>();
 
     public PerPlayerHotRadiusService(@Nonnull HytaleLogger logger, @Nonnull HyzerConfig.PerPlayerRadiusConfig config) {
         this.logger = logger.getSubLogger("PerPlayerRadius");
         this.config = config;
-        this.currentTargetRadius = config.maxRadius;
     }
 
     public void checkAndAdjust() {
@@ -31,19 +31,33 @@ public class PerPlayerHotRadiusService {
             return;
         }
 
-        float currentTps = (float) TpsMonitor.getLowestWorldTps();
-        int targetRadius = calculateTargetRadius(currentTps);
+        var worldsByName = Universe.get().getWorlds();
+        targetByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+
+        for (World world : worldsByName.values()) {
+            float currentTps = (float) TpsMonitor.getWorldTps(world);
+            int targetRadius = calculateTargetRadius(currentTps);
+            int previous = getCurrentTargetRadius(world.getName());
 
-        if (targetRadius != currentTargetRadius) {
-            int applied = applyToAllPlayers(targetRadius);
-            if (applied > 0) {
-                logger.atInfo().log("Adjusted per-player hot radius: %d -> %d (TPS: %.1f, players: %d)",
-                        currentTargetRadius, targetRadius, currentTps, applied);
+            // Applied every check so players who just joined the world pick it up
+            int applied = applyRadius(world, targetRadius);
+            if (targetRadius != previous && applied > 0) {
+                logger.atInfo().log("[World %s] Adjusted per-player hot radius: %d -> %d (TPS: %.1f, players: %d)",
+                        world.getName(), previous, targetRadius, currentTps, applied);
             }
-            currentTargetRadius = targetRadius;
         }
     }
 
+    /**
+     * Apply a radius to every player in one world, e.g. one chosen by the load governor
+     * instead of the TPS thresholds. Returns the number of players whose radius changed.
+     */
+    public int applyRadius(World world, int radius) {
+        int clamped = clamp(radius, config.minRadius, config.maxRadius);
+        targetByWorld.put(world.getName(), clamped);
+        return applyToPlayers(world.getPlayerRefs(), clamped);
+    }
+
     private int calculateTargetRadius(float tps) {
         if (tps <= config.tpsLow) {
             return config.minRadius;
@@ -56,17 +70,14 @@ public class PerPlayerHotRadiusService {
         }
     }
 
-    private int applyToAllPlayers(int targetRadius) {
-        List<PlayerRef> players = Universe.get().getPlayers();
+    private int applyToPlayers(Collection<PlayerRef> players, int radius) {
         if (players == null || players.isEmpty()) {
             return 0;
         }
 
         int applied = 0;
-        int clamped = clamp(targetRadius, config.minRadius, config.maxRadius);
-
         for (PlayerRef playerRef : players) {
-            if (playerRef != null && trySetHotRadius(playerRef, clamped)) {
+            if (playerRef != null && ChunkTrackerAccess.setHotRadius(playerRef, radius)) {
                 applied++;
             }
         }
@@ -74,52 +85,22 @@ public class PerPlayerHotRadiusService {
         return applied;
     }
 
-    private boolean trySetHotRadius(PlayerRef playerRef, int value) {
-        try {
-            Object tracker = getChunkTracker(playerRef);
-            if (tracker == null) {
-                return false;
-            }
-
-            if (mSetHotRadius == null) {
-                mSetHotRadius = tracker.getClass().getMethod("setMaxHotLoadedChunksRadius", int.class);
-                mSetHotRadius.setAccessible(true);
-            }
-
-            if (mGetHotRadius == null) {
-                mGetHotRadius = tracker.getClass().getMethod("getMaxHotLoadedChunksRadius");
-                mGetHotRadius.setAccessible(true);
-            }
-
-            int current = ((Number) mGetHotRadius.invoke(tracker)).intValue();
-            if (current == value) {
-                return false;
-            }
-
-            mSetHotRadius.invoke(tracker, value);
-            return true;
-        } catch (Throwable e) {
-            return false;
-        }
-    }
-
-    private Object getChunkTracker(PlayerRef playerRef) {
-        try {
-            if (mGetChunkTracker == null) {
-                mGetChunkTracker = playerRef.getClass().getMethod("getChunkTracker");
-                mGetChunkTracker.setAccessible(true);
-            }
-            return mGetChunkTracker.invoke(playerRef);
-        } catch (Throwable e) {
-            return null;
-        }
-    }
-
     private static int clamp(int value, int min, int max) {
         return Math.max(min, Math.min(max, value));
     }
 
+    public int getCurrentTargetRadius(String worldName) {
+        return targetByWorld.getOrDefault(worldName, config.maxRadius);
+    }
+
+    /**
+     * Lowest target radius across worlds (the most constrained world).
+     */
     public int getCurrentTargetRadius() {
-        return currentTargetRadius;
+        int radius = config.maxRadius;
+        for (int target : targetByWorld.values()) {
+            radius = Math.min(radius, target);
+        }
+        return radius;
     }
 }
@@ -0,0 +1,73 @@
+package com.hyzer.optimization;
+
+/**
+ * Minimal PID controller with output clamping and integral anti-windup.
+ *
+ * The integral only accumulates while the output is not saturated in the direction of the
+ * error, so a long overload does not leave a large backlog to unwind once load drops.
+ */
+final class PidController {
+
+    private final double kp;
+    private final double ki;
+    private final double kd;
+    private final double minOutput;
+    private final double maxOutput;
+
+    private double integral = 0.0;
+    private double lastError = 0.0;
+    private boolean hasLast = false;
+
+    // Last computed terms, kept for logging
+    private double lastP = 0.0;
+    private double lastI = 0.0;
+    private double lastD = 0.0;
+
+    PidController(double kp, double ki, double kd, double minOutput, double maxOutput) {
+        this.kp = kp;
+        this.ki = ki;
+        this.kd = kd;
+        this.minOutput = minOutput;
+        this.maxOutput = maxOutput;
+    }
+
+    double update(double error, double dtSeconds) {
+        double dt = Math.max(dtSeconds, 1e-3);
+        double derivative = hasLast ? (error - lastError) / dt : 0.0;
+        lastError = error;
+        hasLast = true;
+
+        double candidateIntegral = integral + error * dt;
+        double unclamped = kp * error + ki * candidateIntegral + kd * derivative;
+        double output = Math.max(minOutput, Math.min(maxOutput, unclamped));
+
+        boolean saturatedHigh = unclamped > maxOutput && error > 0;
+        boolean saturatedLow = unclamped < minOutput && error < 0;
+        if (!saturatedHigh && !saturatedLow) {
+            integral = candidateIntegral;
+        }
+
+        lastP = kp * error;
+        lastI = ki * integral;
+        lastD = kd * derivative;
+        return output;
+    }
+
+    void reset() {
+        integral = 0.0;
+        lastError = 0.0;
+        hasLast = false;
+    }
+
+    double getLastP() {
+        return lastP;
+    }
+
+    double getLastI() {
+        return lastI;
+    }
+
+    double getLastD() {
+        return lastD;
+    }
+}
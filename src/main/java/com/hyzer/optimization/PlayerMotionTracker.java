@@ -0,0 +1,162 @@
+package com.hyzer.optimization;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import com.hypixel.hytale.math.vector.Transform;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Estimates each player's horizontal velocity from successive transform samples and
+ * projects it forward, so chunks a moving player is about to enter are kept loaded.
+ *
+ * Velocity is an exponential moving average over position samples. Between unload passes,
+ * {@link ActiveChunkUnloader} samples every {@link #SAMPLE_INTERVAL_NANOS} from its slice task
+ * through {@link #sample(Collection, long)}; each pass samples again while building coverage.
+ * Samples less than {@link #MIN_SAMPLE_NANOS} after the previous one are skipped, so scheduling
+ * jitter never dominates the estimate. Jumps faster than {@link #TELEPORT_SPEED} blocks per
+ * second are treated as teleports and reset the estimate instead of being projected.
+ *
+ * Not thread-safe: each world owns its own tracker and only touches it from the world thread.
+ */
+final class PlayerMotionTracker {
+
+    static final long SAMPLE_INTERVAL_NANOS = 500_000_000L;
+    private static final long MIN_SAMPLE_NANOS = 250_000_000L;
+    private static final double SMOOTHING = 0.5;
+    private static final double TELEPORT_SPEED = 100.0;
+    // Below this speed (blocks/s) a player is treated as standing still
+    private static final double MIN_SPEED = 1.0;
+    private static final double CHUNK_BLOCKS = ChunkUtil.maxBlock(0) + 1;
+
+    private final Map<PlayerRef, Motion> motions = new IdentityHashMap<>();
+    private int frame = 0;
+
+    /**
+     * Start a new coverage build. Players not seen by {@link #markProjectedPath} before the
+     * next call to {@link #endFrame()} are forgotten.
+     */
+    void beginFrame() {
+        frame++;
+    }
+
+    void endFrame() {
+        Iterator<Motion> iterator = motions.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().frame != frame) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Record every player's position without marking anything, between coverage builds.
+     */
+    void sample(Collection<PlayerRef> players, long now) {
+        beginFrame();
+        if (players != null) {
+            for (PlayerRef player : players) {
+                Transform transform = player != null ? player.getTransform() : null;
+                if (transform != null) {
+                    record(player, transform.getPosition().getX(), transform.getPosition().getZ(), now);
+                }
+            }
+        }
+        endFrame();
+    }
+
+    /**
+     * Record the player's position and mark the chunks along their projected path for
+     * the next {@code lookaheadSeconds}, widened by {@code radius} on every side.
+     */
+    void markProjectedPath(ChunkCoverageIndex coverage, PlayerRef player, double x, double z, long now,
+                           int radius, double lookaheadSeconds, int maxLookaheadChunks) {
+        Motion motion = record(player, x, z, now);
+
+        if (lookaheadSeconds <= 0.0 || maxLookaheadChunks <= 0) {
+            return;
+        }
+
+        double speed = Math.sqrt(motion.velocityX * motion.velocityX + motion.velocityZ * motion.velocityZ);
+        if (speed < MIN_SPEED) {
+            return;
+        }
+
+        // Clamp the projection length, then walk it in steps no longer than the square radius
+        // so consecutive squares overlap and the swept corridor has no gaps.
+        double maxBlocks = maxLookaheadChunks * CHUNK_BLOCKS;
+        double scale = Math.min(lookaheadSeconds, maxBlocks / speed);
+        double targetX = x + motion.velocityX * scale;
+        double targetZ = z + motion.velocityZ * scale;
+
+        int startChunkX = ChunkUtil.chunkCoordinate(x);
+        int startChunkZ = ChunkUtil.chunkCoordinate(z);
+        int endChunkX = ChunkUtil.chunkCoordinate(targetX);
+        int endChunkZ = ChunkUtil.chunkCoordinate(targetZ);
+        int span = Math.max(Math.abs(endChunkX - startChunkX), Math.abs(endChunkZ - startChunkZ));
+        if (span == 0) {
+            return;
+        }
+
+        int stepChunks = Math.max(radius, 1);
+        int steps = (span + stepChunks - 1) / stepChunks;
+        for (int step = 1; step <= steps; step++) {
+            double t = (double) step / steps;
+            int chunkX = startChunkX + (int) Math.round((endChunkX - startChunkX) * t);
+            int chunkZ = startChunkZ + (int) Math.round((endChunkZ - startChunkZ) * t);
+            coverage.markSquare(chunkX, chunkZ, radius);
+        }
+    }
+
+    private Motion record(PlayerRef player, double x, double z, long now) {
+        Motion motion = motions.get(player);
+        if (motion == null) {
+            motion = new Motion(x, z, now);
+            motions.put(player, motion);
+        }
+        motion.frame = frame;
+        motion.sample(x, z, now);
+        return motion;
+    }
+
+    private static final class Motion {
+        double lastX;
+        double lastZ;
+        long lastSampleNanos;
+        double velocityX = 0.0;
+        double velocityZ = 0.0;
+        int frame;
+
+        Motion(double x, double z, long now) {
+            this.lastX = x;
+            this.lastZ = z;
+            this.lastSampleNanos = now;
+        }
+
+        void sample(double x, double z, long now) {
+            long elapsed = now - lastSampleNanos;
+            if (elapsed < MIN_SAMPLE_NANOS) {
+                return;
+            }
+
+            double seconds = elapsed / 1_000_000_000.0;
+            double instantX = (x - lastX) / seconds;
+            double instantZ = (z - lastZ) / seconds;
+            if (instantX * instantX + instantZ * instantZ > TELEPORT_SPEED * TELEPORT_SPEED) {
+                velocityX = 0.0;
+                velocityZ = 0.0;
+            } else {
+                velocityX += (instantX - velocityX) * SMOOTHING;
+                velocityZ += (instantZ - velocityZ) * SMOOTHING;
+            }
+
+            lastX = x;
+            lastZ = z;
+            lastSampleNanos = now;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.hyzer.optimization;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size histogram of tick times over a sliding window, for one world.
+ *
+ * Values are bucketed in microseconds on a log scale with 8 sub-buckets per power of two
+ * (percentiles round up to the bucket's upper bound, at most ~12% high, or down to its lower
+ * bound for thresholds), up to ~67s.
+ * Buckets live in a ring of one-second slots; a slot is wiped and re-stamped the first time
+ * it is written in a new second, so nothing is allocated after construction.
+ *
+ * Single writer (the world thread), any number of readers. Readers may see a slot mid-wipe
+ * and miss a handful of samples, which is fine for a percentile estimate.
+ */
+public final class TickTimeHistogram {
+
+    public static final int MAX_WINDOW_SECONDS = 60;
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 25;
+    private static final int BUCKETS = SUB_BUCKETS * (MAX_EXPONENT - SUB_BUCKET_BITS + 2);
+    private static final int SLOTS = MAX_WINDOW_SECONDS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SLOTS * BUCKETS);
+    private final AtomicLongArray slotSecond = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray slotMax = new AtomicLongArray(SLOTS);
+
+    public TickTimeHistogram() {
+        for (int i = 0; i < SLOTS; i++) {
+            slotSecond.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    public void record(long nanos) {
+        record(nanos, System.nanoTime());
+    }
+
+    void record(long nanos, long nowNanos) {
+        long micros = Math.max(nanos / 1000L, 0L);
+        long second = nowNanos / 1_000_000_000L;
+        int slot = (int) Math.floorMod(second, (long) SLOTS);
+
+        if (slotSecond.get(slot) != second) {
+            int base = slot * BUCKETS;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(base + i, 0L);
+            }
+            slotMax.set(slot, 0L);
+            slotSecond.set(slot, second);
+        }
+
+        counts.incrementAndGet(slot * BUCKETS + bucketOf(micros));
+        if (micros > slotMax.get(slot)) {
+            slotMax.set(slot, micros);
+        }
+    }
+
+    /**
+     * Tick time at the given percentile (0-100) over the last {@code windowSeconds},
+     * in milliseconds. Rounded up to the bucket's upper bound (capped at the window's max),
+     * so it can read up to ~12% high. Returns 0 when there are no samples in the window.
+     */
+    public double getPercentileMillis(double percentile, int windowSeconds) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        int window = clampWindow(windowSeconds);
+        int bucket = percentileBucket(percentile, now, window);
+        if (bucket < 0) {
+            return 0.0;
+        }
+        // Never report more than was actually seen
+        return Math.min(upperBoundOf(bucket), getMaxMicros(now, window)) / 1000.0;
+    }
+
+    /**
+     * Lowest tick time the given percentile can be, in milliseconds: the lower bound of its
+     * bucket. Use this for thresholds, so the bucket rounding alone never trips one.
+     * Returns 0 when there are no samples in the window.
+     */
+    public double getPercentileFloorMillis(double percentile, int windowSeconds) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        int bucket = percentileBucket(percentile, now, clampWindow(windowSeconds));
+        return bucket < 0 ? 0.0 : lowerBoundOf(bucket) / 1000.0;
+    }
+
+    private int percentileBucket(double percentile, long now, int window) {
+        long total = 0L;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (inWindow(slot, now, window)) {
+                int base = slot * BUCKETS;
+                for (int i = 0; i < BUCKETS; i++) {
+                    total += counts.get(base + i);
+                }
+            }
+        }
+        if (total == 0L) {
+            return -1;
+        }
+
+        double p = Math.max(0.0, Math.min(percentile, 100.0));
+        long rank = Math.max((long) Math.ceil(total * p / 100.0), 1L);
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (inWindow(slot, now, window)) {
+                    seen += counts.get(slot * BUCKETS + i);
+                }
+            }
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return BUCKETS - 1;
+    }
+
+    /**
+     * Longest tick over the last {@code windowSeconds}, in milliseconds.
+     */
+    public double getMaxMillis(int windowSeconds) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        return getMaxMicros(now, clampWindow(windowSeconds)) / 1000.0;
+    }
+
+    /**
+     * Number of samples over the last {@code windowSeconds}.
+     */
+    public long getCount(int windowSeconds) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        int window = clampWindow(windowSeconds);
+        long total = 0L;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (inWindow(slot, now, window)) {
+                int base = slot * BUCKETS;
+                for (int i = 0; i < BUCKETS; i++) {
+                    total += counts.get(base + i);
+                }
+            }
+        }
+        return total;
+    }
+
+    private long getMaxMicros(long now, int window) {
+        long max = 0L;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (inWindow(slot, now, window)) {
+                max = Math.max(max, slotMax.get(slot));
+            }
+        }
+        return max;
+    }
+
+    private boolean inWindow(int slot, long now, int window) {
+        long second = slotSecond.get(slot);
+        return second != Long.MIN_VALUE && second <= now && now - second < window;
+    }
+
+    private static int clampWindow(int windowSeconds) {
+        return Math.max(1, Math.min(windowSeconds, MAX_WINDOW_SECONDS));
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) * (1L << (exponent - SUB_BUCKET_BITS));
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + sub) * width) + width - 1;
+    }
+}
@@ -0,0 +1,137 @@
+package com.hyzer.optimization;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.RootDependency;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Feeds each world's {@link TickTimeHistogram} with tick durations, from the world thread.
+ *
+ * A world tick runs its chunk store and its entity store. Each store gets a marker system
+ * ordered first ({@link RootDependency#firstSet()}) and one ordered last
+ * ({@link RootDependency#lastSet()}); the time from one to the other is that store's share of
+ * the tick. The two shares of a tick are summed into one sample, whichever store runs first.
+ * Time between ticks (sleeping until the next step) is never counted, so a world that keeps
+ * up records its real tick cost rather than the step.
+ *
+ * If one store skips a tick, its partner's share is recorded on its own when that store
+ * finishes another span, so pairing never drifts.
+ *
+ * Per-world state is {@link #STATE_SIZE} longs, only touched from that world's thread.
+ */
+public final class TickTimeSampler {
+
+    private static final int STATE_CLEANUP_INTERVAL_TICKS = 1200;
+
+    private static final int CHUNK_STORE = 0;
+    private static final int ENTITY_STORE = 1;
+    private static final long NO_STORE = -1L;
+
+    // [0..1] span start per store, then the pending span and the store it came from
+    private static final int PENDING_NANOS = 2;
+    private static final int PENDING_STORE = 3;
+    private static final int TICK_COUNT = 4;
+    private static final int STATE_SIZE = 5;
+
+    private final Map<String, long[]> stateByWorld = new ConcurrentHashMap<>();
+
+    /**
+     * Marker systems to register on the chunk store registry.
+     */
+    public List<TickingSystem<ChunkStore>> chunkStoreSystems() {
+        return List.of(
+                new Marker<>(CHUNK_STORE, true, RootDependency.firstSet(), ChunkStore::getWorld),
+                new Marker<>(CHUNK_STORE, false, RootDependency.lastSet(), ChunkStore::getWorld));
+    }
+
+    /**
+     * Marker systems to register on the entity store registry.
+     */
+    public List<TickingSystem<EntityStore>> entityStoreSystems() {
+        return List.of(
+                new Marker<>(ENTITY_STORE, true, RootDependency.firstSet(), EntityStore::getWorld),
+                new Marker<>(ENTITY_STORE, false, RootDependency.lastSet(), EntityStore::getWorld));
+    }
+
+    private void onStart(World world, int storeIndex, long now) {
+        long[] state = stateByWorld.computeIfAbsent(world.getName(), key -> newState());
+        state[storeIndex] = now;
+        if (storeIndex == CHUNK_STORE && ++state[TICK_COUNT] % STATE_CLEANUP_INTERVAL_TICKS == 0) {
+            var worldsByName = Universe.get().getWorlds();
+            stateByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+            TpsMonitor.removeStaleHistograms();
+        }
+    }
+
+    private void onEnd(World world, int storeIndex, long now) {
+        long[] state = stateByWorld.get(world.getName());
+        if (state == null || state[storeIndex] == 0L) {
+            return;
+        }
+        long span = now - state[storeIndex];
+        state[storeIndex] = 0L;
+
+        long pendingStore = state[PENDING_STORE];
+        if (pendingStore == NO_STORE) {
+            state[PENDING_NANOS] = span;
+            state[PENDING_STORE] = storeIndex;
+        } else if (pendingStore != storeIndex) {
+            TpsMonitor.getTickHistogram(world).record(state[PENDING_NANOS] + span, now);
+            state[PENDING_STORE] = NO_STORE;
+        } else {
+            // The other store did not tick since; its share of that tick was zero
+            TpsMonitor.getTickHistogram(world).record(state[PENDING_NANOS], now);
+            state[PENDING_NANOS] = span;
+        }
+    }
+
+    private static long[] newState() {
+        long[] state = new long[STATE_SIZE];
+        state[PENDING_STORE] = NO_STORE;
+        return state;
+    }
+
+    private final class Marker<S> extends TickingSystem<S> {
+        private final int storeIndex;
+        private final boolean start;
+        private final Set<Dependency<S>> dependencies;
+        private final Function<S, World> worldOf;
+
+        Marker(int storeIndex, boolean start, Set<Dependency<S>> dependencies, Function<S, World> worldOf) {
+            this.storeIndex = storeIndex;
+            this.start = start;
+            this.dependencies = dependencies;
+            this.worldOf = worldOf;
+        }
+
+        @Override
+        public Set<Dependency<S>> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public void tick(float dt, int systemIndex, Store<S> store) {
+            long now = System.nanoTime();
+            World world = worldOf.apply(store.getExternalData());
+            if (world == null || world.getName() == null) {
+                return;
+            }
+            if (start) {
+                onStart(world, storeIndex, now);
+            } else {
+                onEnd(world, storeIndex, now);
+            }
+        }
+    }
+}
@@ -17,12 +17,20 @@ public class TpsAdjuster {
     private final HytaleLogger logger;
     private final HyzerConfig.TpsAdjusterConfig config;
     private long lastPlayerSeenAt;
+    private WorldHibernationService hibernation;
 
     public TpsAdjuster(HytaleLogger logger, HyzerConfig.TpsAdjusterConfig config) {
         this.logger = logger.getSubLogger("TpsAdjuster");
         this.config = config;
     }
 
+    /**
+     * Leave worlds that are hibernating alone instead of waking them back to a TPS target.
+     */
+    public void setHibernation(WorldHibernationService hibernation) {
+        this.hibernation = hibernation;
+    }
+
     public boolean execute() {
         long now = System.nanoTime();
 
@@ -59,6 +67,9 @@ public class TpsAdjuster {
             }
 
             World world = entry.getValue();
+            if (hibernation != null && hibernation.isHibernating(world)) {
+                continue;
+            }
             if (world.getTps() != tps) {
                 change = true;
                 logger.atInfo().log("Setting TPS of world %s to %d", world.getName(), tps);
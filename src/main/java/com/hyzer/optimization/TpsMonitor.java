@@ -5,7 +5,12 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.commands.world.perf.WorldPerfCommand;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class TpsMonitor {
+    private static final Map<String, TickTimeHistogram> histogramsByWorld = new ConcurrentHashMap<>();
+
     private TpsMonitor() {
     }
 
@@ -24,9 +29,75 @@ public final class TpsMonitor {
         return hasWorlds ? minTps : 20.0;
     }
 
+    /**
+     * Average tick length as a fraction of the world's tick budget (1.0 = using the whole step).
+     */
+    public static double getWorldTickLoad(World world) {
+        long tickStepNanos = world.getTickStepNanos();
+        if (tickStepNanos <= 0) {
+            return 0.0;
+        }
+        HistoricMetric metrics = world.getBufferedTickLengthMetricSet();
+        return metrics.getAverage(0) / tickStepNanos;
+    }
+
     public static double getWorldTps(World world) {
         long tickStepNanos = world.getTickStepNanos();
         HistoricMetric metrics = world.getBufferedTickLengthMetricSet();
         return WorldPerfCommand.tpsFromDelta(metrics.getAverage(0), tickStepNanos);
     }
+
+    /**
+     * Tick time histogram of a world, fed by {@link TickTimeSampler}. Empty until the sampler
+     * has seen the world tick.
+     */
+    public static TickTimeHistogram getTickHistogram(World world) {
+        return histogramsByWorld.computeIfAbsent(world.getName(), key -> new TickTimeHistogram());
+    }
+
+    public static boolean hasTickHistograms() {
+        return !histogramsByWorld.isEmpty();
+    }
+
+    /**
+     * Tick time at the given percentile over the last {@code windowSeconds}, in milliseconds.
+     */
+    public static double getWorldTickPercentileMillis(World world, double percentile, int windowSeconds) {
+        TickTimeHistogram histogram = histogramsByWorld.get(world.getName());
+        return histogram != null ? histogram.getPercentileMillis(percentile, windowSeconds) : 0.0;
+    }
+
+    /**
+     * Lower bound of the tick time percentile, see {@link TickTimeHistogram#getPercentileFloorMillis}.
+     * Compare this against the tick step rather than the rounded-up percentile.
+     */
+    public static double getWorldTickPercentileFloorMillis(World world, double percentile, int windowSeconds) {
+        TickTimeHistogram histogram = histogramsByWorld.get(world.getName());
+        return histogram != null ? histogram.getPercentileFloorMillis(percentile, windowSeconds) : 0.0;
+    }
+
+    public static double getWorldTickMaxMillis(World world, int windowSeconds) {
+        TickTimeHistogram histogram = histogramsByWorld.get(world.getName());
+        return histogram != null ? histogram.getMaxMillis(windowSeconds) : 0.0;
+    }
+
+    /**
+     * How far the given tick time percentile runs over the tick step, as a fraction of the step
+     * (0.0 = within budget, 1.0 = ticks taking twice the step). Catches stutter that the
+     * average in {@link #getWorldTickLoad(World)} smooths away. Uses the percentile's lower
+     * bound, so a world ticking right at its step never reads as overrunning.
+     */
+    public static double getWorldTickOverrun(World world, double percentile, int windowSeconds) {
+        long tickStepNanos = world.getTickStepNanos();
+        if (tickStepNanos <= 0) {
+            return 0.0;
+        }
+        double tickMillis = getWorldTickPercentileFloorMillis(world, percentile, windowSeconds);
+        return Math.max(tickMillis * 1_000_000.0 / tickStepNanos - 1.0, 0.0);
+    }
+
+    static void removeStaleHistograms() {
+        var worldsByName = Universe.get().getWorlds();
+        histogramsByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+    }
 }
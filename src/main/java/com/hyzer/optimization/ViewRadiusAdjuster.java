@@ -5,6 +5,13 @@ import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.universe.Universe;
 
+/**
+ * Steps the view radius down when TPS drops and back up once it recovers.
+ *
+ * The server has one view radius for every player and no per-player or per-world setter, so
+ * this stays server-wide and follows the lowest world TPS. Per-world control is limited to the
+ * hot radius (PerPlayerHotRadiusService).
+ */
 public class ViewRadiusAdjuster {
 
     private final HytaleLogger logger;
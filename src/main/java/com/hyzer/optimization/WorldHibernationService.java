@@ -0,0 +1,265 @@
+package com.hyzer.optimization;
+
+import com.hyzer.config.HyzerConfig;
+import com.hypixel.hytale.event.EventRegistration;
+import com.hypixel.hytale.event.EventRegistry;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.HytaleServer;
+import com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent;
+import com.hypixel.hytale.server.core.event.events.player.DrainPlayerFromWorldEvent;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.util.thread.TickingThread;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event-driven empty-world TPS drop: worlds with no players are slowed to {@code hibernateTps},
+ * driven by join/leave events instead of polling.
+ *
+ * When a player is drained from a world, a drop is scheduled {@code delaySeconds} later. If the
+ * world has no players by then (and is not excluded and has no keep-loaded region), it is slowed
+ * down. An {@link AddPlayerToWorldEvent} cancels a pending drop and restores the awake TPS
+ * straight away.
+ *
+ * This is the same mechanism as TpsAdjuster's {@code tpsLimitEmpty}, per world and without the
+ * polling delay. The server API has no way to pause a world outright, so a hibernating world
+ * still ticks, just rarely.
+ *
+ * Both the drop and the restore run on the world thread, in the order they were queued. The drop
+ * re-checks the epoch and the player count there, so a player who joins while it is queued
+ * cancels it rather than being left in a slowed world.
+ *
+ * Worlds that are empty at startup are checked once from {@link #hibernateEmptyWorlds()}.
+ * TpsAdjuster leaves hibernating worlds alone.
+ */
+public class WorldHibernationService {
+
+    private final HytaleLogger logger;
+    private final HyzerConfig.WorldHibernationConfig config;
+    private final int awakeTps;
+    private final Map<String, HibernationState> statesByWorld = new ConcurrentHashMap<>();
+
+    private EventRegistration<?, ?> addRegistration;
+    private EventRegistration<?, ?> drainRegistration;
+    private volatile ChunkTickLodSystem chunkTickLod;
+
+    public WorldHibernationService(HytaleLogger logger, HyzerConfig.WorldHibernationConfig config, int awakeTps) {
+        this.logger = logger.getSubLogger("WorldHibernation");
+        this.config = config;
+        this.awakeTps = awakeTps > 0 ? awakeTps : TickingThread.TPS;
+    }
+
+    /**
+     * Release the chunks the LOD system keeps awake before a world is slowed down.
+     */
+    public void setChunkTickLod(ChunkTickLodSystem chunkTickLod) {
+        this.chunkTickLod = chunkTickLod;
+    }
+
+    public void register(EventRegistry eventRegistry) {
+        addRegistration = eventRegistry.registerGlobal(AddPlayerToWorldEvent.class, this::onPlayerAdded);
+        drainRegistration = eventRegistry.registerGlobal(DrainPlayerFromWorldEvent.class, this::onPlayerDrained);
+    }
+
+    /**
+     * Schedule hibernation for every world that is empty right now, e.g. after boot.
+     */
+    public void hibernateEmptyWorlds() {
+        for (World world : Universe.get().getWorlds().values()) {
+            if (world != null && world.getPlayerCount() <= 0) {
+                scheduleHibernation(world);
+            }
+        }
+    }
+
+    private void onPlayerAdded(AddPlayerToWorldEvent event) {
+        World world = event.getWorld();
+        if (world == null || world.getName() == null) {
+            return;
+        }
+        HibernationState state = statesByWorld.get(world.getName());
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.epoch++;
+            if (state.pending != null) {
+                state.pending.cancel(false);
+                state.pending = null;
+            }
+            if (state.hibernating) {
+                wake(world, state);
+            }
+        }
+    }
+
+    private void onPlayerDrained(DrainPlayerFromWorldEvent event) {
+        World world = event.getWorld();
+        if (world == null || world.getName() == null) {
+            return;
+        }
+        // The leaving player may or may not still be counted here, so always schedule;
+        // hibernate() only goes ahead if the world has no players by then
+        scheduleHibernation(world);
+    }
+
+    private void scheduleHibernation(World world) {
+        if (!config.enabled || isExcluded(world)) {
+            return;
+        }
+
+        var worldsByName = Universe.get().getWorlds();
+        statesByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+
+        HibernationState state = statesByWorld.computeIfAbsent(world.getName(), key -> new HibernationState());
+        synchronized (state) {
+            if (state.hibernating) {
+                return;
+            }
+            if (state.pending != null) {
+                state.pending.cancel(false);
+            }
+            long epoch = ++state.epoch;
+            state.pending = HytaleServer.SCHEDULED_EXECUTOR.schedule(
+                    () -> {
+                        try {
+                            hibernate(world, state, epoch);
+                        } catch (Exception e) {
+                            logger.atSevere().withCause(e).log("Error hibernating world %s", world.getName());
+                        }
+                    },
+                    Math.max(config.delaySeconds, 1),
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    private void hibernate(World world, HibernationState state, long epoch) {
+        synchronized (state) {
+            state.pending = null;
+            // Someone joined (or a newer check was scheduled) since this one was queued
+            if (state.epoch != epoch || state.hibernating) {
+                return;
+            }
+            if (world.getPlayerCount() > 0 || Universe.get().getWorlds().get(world.getName()) != world) {
+                return;
+            }
+        }
+
+        int tps = Math.max(config.hibernateTps, 1);
+        ChunkTickLodSystem lod = chunkTickLod;
+        world.execute(() -> {
+            synchronized (state) {
+                // A player may have joined while this task was queued; the join already saw the
+                // world awake, so nothing would wake it again
+                if (state.epoch != epoch || state.hibernating || world.getPlayerCount() > 0) {
+                    return;
+                }
+                // Chunks woken for a single tick would otherwise stay TICKING while the world sleeps
+                if (lod != null) {
+                    lod.release(world);
+                }
+                world.setTps(tps);
+                state.hibernating = true;
+            }
+            logger.atInfo().log("World %s hibernating (TPS %d)", world.getName(), tps);
+        });
+    }
+
+    /**
+     * Queued on the world thread, so it always runs after a drop queued before it.
+     */
+    private void wake(World world, HibernationState state) {
+        state.hibernating = false;
+        world.execute(() -> world.setTps(awakeTps));
+        logger.atInfo().log("World %s woken up", world.getName());
+    }
+
+    private boolean isExcluded(World world) {
+        if (world.getWorldConfig() != null
+                && world.getWorldConfig().getChunkConfig() != null
+                && world.getWorldConfig().getChunkConfig().getKeepLoadedRegion() != null) {
+            return true;
+        }
+        if (config.excludeWorlds == null) {
+            return false;
+        }
+        String name = world.getName();
+        for (String pattern : config.excludeWorlds) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            if (TpsAdjuster.DEFAULT_WORLD.equals(pattern)) {
+                World defaultWorld = Universe.get().getDefaultWorld();
+                if (defaultWorld != null && name.equals(defaultWorld.getName())) {
+                    return true;
+                }
+            } else if (pattern.endsWith("*")) {
+                if (name.startsWith(pattern.substring(0, pattern.length() - 1))) {
+                    return true;
+                }
+            } else if (name.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isHibernating(World world) {
+        HibernationState state = statesByWorld.get(world.getName());
+        return state != null && state.hibernating;
+    }
+
+    public int getHibernatingCount() {
+        int count = 0;
+        for (HibernationState state : statesByWorld.values()) {
+            if (state.hibernating) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Wake every hibernating world and stop listening, e.g. on shutdown.
+     */
+    public void restore() {
+        if (addRegistration != null) {
+            addRegistration.unregister();
+            addRegistration = null;
+        }
+        if (drainRegistration != null) {
+            drainRegistration.unregister();
+            drainRegistration = null;
+        }
+        for (World world : Universe.get().getWorlds().values()) {
+            HibernationState state = statesByWorld.get(world.getName());
+            if (state == null) {
+                continue;
+            }
+            synchronized (state) {
+                state.epoch++;
+                if (state.pending != null) {
+                    state.pending.cancel(false);
+                    state.pending = null;
+                }
+                if (state.hibernating) {
+                    wake(world, state);
+                }
+            }
+        }
+        statesByWorld.clear();
+    }
+
+    /**
+     * Per-world hibernation state. Guarded by its own monitor.
+     */
+    private static final class HibernationState {
+        long epoch = 0L;
+        ScheduledFuture<?> pending;
+        volatile boolean hibernating = false;
+    }
+}
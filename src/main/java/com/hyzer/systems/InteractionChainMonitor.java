@@ -4,6 +4,7 @@ import com.hyzer.Hyzer;
 import com.hyzer.config.ConfigManager;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
@@ -35,9 +36,10 @@ import java.util.logging.Level;
  * Since we can't intercept Hytale's core logging, we track what we CAN
  * observe and fix through Hyzer.
  */
-public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
+public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> implements PlayerCheck {
 
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("InteractionChainMonitor");
 
     // Timing (configurable)
     private final int logIntervalTicks;
@@ -100,6 +102,32 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = cost.start();
+        check(entityIndex, chunk, store, commandBuffer,
+                chunk.getReferenceTo(entityIndex), chunk.getComponent(entityIndex, Player.getComponentType()));
+        cost.stop(start);
+    }
+
+    @Override
+    public String getCheckName() {
+        return "InteractionChainMonitor";
+    }
+
+    @Override
+    public boolean runsEveryTick() {
+        // Counts ticks for its periodic summary
+        return true;
+    }
+
+    @Override
+    public void check(
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            Ref<EntityStore> ref,
+            Player player
     ) {
         // Only run on first entity to avoid duplicate processing
         if (entityIndex != 0) {
@@ -0,0 +1,42 @@
+package com.hyzer.systems;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * A per-player check that can run inside {@link PlayerSanitizerSystem}.
+ *
+ * The fused system walks the Player archetype chunks once, fetches the entity ref and Player
+ * component once, and hands them to every enabled check. Checks fetch any further components
+ * they need from {@code chunk} themselves and must not let exceptions escape for expected
+ * failures - the system only guards against the unexpected ones.
+ */
+public interface PlayerCheck {
+
+    /**
+     * Short name used in logs and status output.
+     */
+    String getCheckName();
+
+    /**
+     * Whether this check has to see every player on every tick. Checks that clean up state
+     * a Hytale system would crash on later in the same tick return true and are never sampled
+     * by {@link PlayerCheckScheduler}; the rest may be spread over several ticks.
+     */
+    default boolean runsEveryTick() {
+        return false;
+    }
+
+    void check(
+            int index,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            Ref<EntityStore> ref,
+            Player player
+    );
+}
@@ -0,0 +1,141 @@
+package com.hyzer.systems;
+
+import com.hyzer.config.HyzerConfig;
+import com.hyzer.optimization.TpsMonitor;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which players the sampled {@link PlayerCheck}s look at on each tick.
+ *
+ * Each world gets an interval N. On a tick at cycle position {@code p}, only entities whose
+ * index satisfies {@code index % N == p} are checked, so every player is covered exactly once
+ * every N ticks. N is picked from the world's tick headroom (1 - average tick load): at or
+ * above {@code fullHeadroom} it is {@code minInterval}, at or below {@code noHeadroom} it is
+ * {@code maxInterval}, linear in between. A new N only takes effect once the current cycle
+ * is complete, so a change never leaves a gap in coverage.
+ *
+ * Registered as its own ticking system so the cycle advances exactly once per world tick.
+ * Per-world state is only touched from that world's thread, which also caches its own world's
+ * cycle in a thread local so {@link #isDue} skips the map lookup.
+ */
+public class PlayerCheckScheduler extends TickingSystem<EntityStore> {
+
+    private static final int STATE_CLEANUP_INTERVAL_TICKS = 1200;
+
+    private final HyzerConfig.PlayerCheckSchedulingConfig config;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("PlayerCheckScheduler");
+    private final Map<String, Cycle> cyclesByWorld = new ConcurrentHashMap<>();
+    private final ThreadLocal<Cycle> currentCycle = new ThreadLocal<>();
+
+    public PlayerCheckScheduler(HyzerConfig.PlayerCheckSchedulingConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null || world.getName() == null) {
+            return;
+        }
+
+        long start = cost.start();
+        Cycle cycle = cycleFor(store, world);
+        if (++cycle.position >= cycle.interval) {
+            cycle.position = 0;
+            cycle.interval = computeInterval(world);
+        }
+
+        if (++cycle.ticks % STATE_CLEANUP_INTERVAL_TICKS == 0) {
+            var worldsByName = Universe.get().getWorlds();
+            cyclesByWorld.keySet().removeIf(name -> !worldsByName.containsKey(name));
+        }
+        cost.stop(start);
+    }
+
+    /**
+     * Whether the sampled checks should look at this entity on the current tick.
+     */
+    public boolean isDue(Store<EntityStore> store, int entityIndex) {
+        Cycle cycle = currentCycle.get();
+        if (cycle == null || cycle.store != store) {
+            cycle = findCycle(store);
+            if (cycle == null) {
+                // Scheduler has not ticked this world yet - check everyone
+                return true;
+            }
+        }
+        int interval = cycle.interval;
+        return interval <= 1 || Math.floorMod(entityIndex, interval) == cycle.position;
+    }
+
+    private Cycle cycleFor(Store<EntityStore> store, World world) {
+        Cycle cycle = cyclesByWorld.get(world.getName());
+        if (cycle == null || cycle.store != store) {
+            // New world, or the world was reloaded with a fresh store
+            cycle = new Cycle(store, Math.max(config.minInterval, 1));
+            cyclesByWorld.put(world.getName(), cycle);
+        }
+        if (currentCycle.get() != cycle) {
+            currentCycle.set(cycle);
+        }
+        return cycle;
+    }
+
+    private Cycle findCycle(Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null || world.getName() == null) {
+            return null;
+        }
+        Cycle cycle = cyclesByWorld.get(world.getName());
+        if (cycle == null || cycle.store != store) {
+            return null;
+        }
+        currentCycle.set(cycle);
+        return cycle;
+    }
+
+    private int computeInterval(World world) {
+        int min = Math.max(config.minInterval, 1);
+        int max = Math.max(config.maxInterval, min);
+        if (min == max) {
+            return min;
+        }
+
+        double headroom = 1.0 - TpsMonitor.getWorldTickLoad(world);
+        double span = config.fullHeadroom - config.noHeadroom;
+        double pressure = span > 0.0 ? (config.fullHeadroom - headroom) / span : (headroom < config.fullHeadroom ? 1.0 : 0.0);
+        pressure = Math.min(Math.max(pressure, 0.0), 1.0);
+        return min + (int) Math.round(pressure * (max - min));
+    }
+
+    /**
+     * Current interval N of a world, or 1 if it is not being sampled.
+     */
+    public int getInterval(World world) {
+        Cycle cycle = cyclesByWorld.get(world.getName());
+        return cycle != null ? cycle.interval : 1;
+    }
+
+    /**
+     * Per-world cycle state. Written only from the world's thread; only {@code interval} is read
+     * elsewhere (status).
+     */
+    private static final class Cycle {
+        final Store<EntityStore> store;
+        volatile int interval;
+        int position = 0;
+        long ticks = 0L;
+
+        Cycle(Store<EntityStore> store, int interval) {
+            this.store = store;
+            this.interval = interval;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hyzer.systems;
+
+import com.hyzer.Hyzer;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * PlayerSanitizerSystem - Runs every per-player check in a single pass
+ *
+ * InteractionManagerSanitizer, ChunkTrackerSanitizer, CraftingManagerSanitizer,
+ * GatherObjectiveTaskSanitizer and InteractionChainMonitor all query Player. Registered as
+ * separate systems, each of them walks every Player archetype chunk and looks up the same
+ * ref and Player component again. This system is registered in their place: it visits each
+ * player once per tick, fetches the shared data once and runs the enabled checks in
+ * registration order.
+ *
+ * With a {@link PlayerCheckScheduler}, checks that do not need to run every tick only see
+ * the players whose turn it is (1/N of them per tick); {@link PlayerCheck#runsEveryTick()}
+ * checks always see everyone.
+ *
+ * A check that throws is logged once and skipped for that entity; the remaining checks
+ * still run. Each check's cost is sampled under its own name in {@link SystemCostMonitor}.
+ */
+public class PlayerSanitizerSystem extends EntityTickingSystem<EntityStore> {
+
+    private final Hyzer plugin;
+    private final PlayerCheck[] checks;
+    private final boolean[] everyTick;
+    private final boolean[] errorLogged;
+    private final SystemCostMonitor.Probe[] costs;
+    private final PlayerCheckScheduler scheduler;
+
+    public PlayerSanitizerSystem(Hyzer plugin, List<PlayerCheck> checks, PlayerCheckScheduler scheduler) {
+        this.plugin = plugin;
+        this.checks = checks.toArray(new PlayerCheck[0]);
+        this.everyTick = new boolean[this.checks.length];
+        this.errorLogged = new boolean[this.checks.length];
+        this.costs = new SystemCostMonitor.Probe[this.checks.length];
+        this.scheduler = scheduler;
+        for (int i = 0; i < this.checks.length; i++) {
+            everyTick[i] = scheduler == null || this.checks[i].runsEveryTick();
+            costs[i] = SystemCostMonitor.probe(this.checks[i].getCheckName());
+        }
+    }
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Player.getComponentType();
+    }
+
+    @Override
+    public void tick(
+            float deltaTime,
+            int index,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        Ref<EntityStore> ref = chunk.getReferenceTo(index);
+        Player player = chunk.getComponent(index, Player.getComponentType());
+        boolean due = scheduler == null
+                || scheduler.isDue(store, ref != null ? ref.getIndex() : index);
+
+        for (int i = 0; i < checks.length; i++) {
+            if (!due && !everyTick[i]) {
+                continue;
+            }
+            long start = costs[i].start();
+            try {
+                checks[i].check(index, chunk, store, commandBuffer, ref, player);
+            } catch (Exception e) {
+                if (!errorLogged[i]) {
+                    errorLogged[i] = true;
+                    plugin.getLogger().at(Level.WARNING).log(
+                            "[PlayerSanitizerSystem] " + checks[i].getCheckName() + " failed: " + e.getMessage());
+                }
+            }
+            costs[i].stop(start);
+        }
+    }
+
+    public PlayerCheckScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public int getCheckCount() {
+        return checks.length;
+    }
+
+    /**
+     * Names of the fused checks, in the order they run. Sampled checks are marked.
+     */
+    public String getCheckNames() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < checks.length; i++) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(checks[i].getCheckName());
+            if (!everyTick[i]) {
+                sb.append(" (sampled)");
+            }
+        }
+        return sb.toString();
+    }
+}
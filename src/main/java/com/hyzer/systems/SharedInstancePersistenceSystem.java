@@ -26,6 +26,7 @@ public class SharedInstancePersistenceSystem extends TickingSystem<ChunkStore> {
     private static final String SHARED_PREFIX = "instance-shared-";
     private static final String ENDGAME_PREFIX = "instance-Endgame_";
     private final Hyzer plugin;
+    private final SystemCostMonitor.Probe cost = SystemCostMonitor.probe("SharedInstancePersistenceSystem");
     private final Set<String> loggedWorlds = ConcurrentHashMap.newKeySet();
     private boolean loggedOnce = false;
     private static final int LOGGED_WORLD_CLEANUP_THRESHOLD = 512;
@@ -36,6 +37,12 @@ public class SharedInstancePersistenceSystem extends TickingSystem<ChunkStore> {
 
     @Override
     public void tick(float dt, int systemIndex, Store<ChunkStore> store) {
+        long start = cost.start();
+        preserveWorld(store);
+        cost.stop(start);
+    }
+
+    private void preserveWorld(Store<ChunkStore> store) {
         World world = store.getExternalData().getWorld();
         if (world == null) {
             return;
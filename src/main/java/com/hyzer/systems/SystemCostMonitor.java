@@ -0,0 +1,304 @@
+package com.hyzer.systems;
+
+import com.hyzer.config.HyzerConfig;
+import com.hypixel.hytale.server.core.universe.Universe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tick cost of Hyzer's own systems.
+ *
+ * Each system holds a named {@link Probe} and brackets its work with {@link Probe#start()} /
+ * {@link Probe#stop(long)}. Only one call in {@code sampleEvery} is actually timed, so an
+ * untimed call costs a thread-local lookup, an increment and a compare. Sampled time is scaled
+ * back up by the sampling rate and divided by the ticks, counted by {@link SystemCostSampler},
+ * of the worlds that ran the probe, giving an average cost in microseconds per world tick for
+ * each system - a system only some worlds run is not diluted by the others.
+ *
+ * Each world ticks on its own thread, so sampling counters are per thread (every world samples
+ * exactly 1 call in N of its own) and a thread is tied to the world whose ticks it counted.
+ * Worlds that no longer exist are dropped every {@code STATE_CLEANUP_INTERVAL_TICKS} ticks;
+ * their ticks are kept as a retired total so the per-tick averages do not jump.
+ *
+ * Probes are shared by name: a check that runs inside {@link PlayerSanitizerSystem} and the
+ * same check registered on its own report under the same entry.
+ */
+public final class SystemCostMonitor {
+
+    private static final int STATE_CLEANUP_INTERVAL_TICKS = 1200;
+
+    private static final Map<String, Probe> probesByName = new ConcurrentHashMap<>();
+    private static final Map<String, WorldTicks> worldTicksByName = new ConcurrentHashMap<>();
+    private static final ThreadLocal<WorldTicks> currentWorld = new ThreadLocal<>();
+    private static final LongAdder retiredTicks = new LongAdder();
+
+    private static volatile boolean enabled = true;
+    private static volatile int defaultSampleEvery = 16;
+
+    // Totals at the last periodic report, only touched by the reporting task:
+    // [estimated nanos, world ticks] per probe
+    private static final Map<String, long[]> reportedByName = new HashMap<>();
+    private static long reportedTicks = 0L;
+
+    private SystemCostMonitor() {
+    }
+
+    /**
+     * Apply the config. Call before the systems create their probes.
+     */
+    public static void configure(HyzerConfig.SystemCostConfig config) {
+        enabled = config != null && config.enabled;
+        defaultSampleEvery = config != null ? Math.max(config.sampleEvery, 1) : 16;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static int getSampleEvery() {
+        return defaultSampleEvery;
+    }
+
+    public static Probe probe(String name) {
+        return probe(name, defaultSampleEvery);
+    }
+
+    /**
+     * Probe with its own sampling rate, e.g. 1 for work that only runs now and then.
+     */
+    public static Probe probe(String name, int sampleEvery) {
+        return probesByName.computeIfAbsent(name, key -> new Probe(key, Math.max(sampleEvery, 1)));
+    }
+
+    /**
+     * Count a tick of {@code worldName}, from that world's thread.
+     */
+    static void recordWorldTick(String worldName) {
+        WorldTicks world = currentWorld.get();
+        if (world == null || world.retired || !world.name.equals(worldName)) {
+            world = worldTicksByName.computeIfAbsent(worldName, WorldTicks::new);
+            currentWorld.set(world);
+        }
+        world.ticks.increment();
+        if (++world.ticksSinceCleanup >= STATE_CLEANUP_INTERVAL_TICKS) {
+            world.ticksSinceCleanup = 0;
+            removeStaleWorlds();
+        }
+    }
+
+    private static void removeStaleWorlds() {
+        var worldsByName = Universe.get().getWorlds();
+        for (Iterator<WorldTicks> iterator = worldTicksByName.values().iterator(); iterator.hasNext(); ) {
+            WorldTicks world = iterator.next();
+            // Only the thread whose remove succeeds retires it
+            if (!worldsByName.containsKey(world.name) && worldTicksByName.remove(world.name, world)) {
+                world.retired = true;
+                long ticks = world.ticks.sum();
+                retiredTicks.add(ticks);
+                for (Probe probe : probesByName.values()) {
+                    if (probe.worlds.remove(world)) {
+                        probe.retiredTicks.add(ticks);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Ticks of all worlds together, including worlds that have since been removed.
+     */
+    public static long getWorldTicks() {
+        long ticks = retiredTicks.sum();
+        for (WorldTicks world : worldTicksByName.values()) {
+            ticks += world.ticks.sum();
+        }
+        return ticks;
+    }
+
+    /**
+     * Worlds that have ticked and still exist (as of the last cleanup).
+     */
+    public static int getWorldCount() {
+        return worldTicksByName.size();
+    }
+
+    /**
+     * All probes that have been sampled at least once, most expensive first.
+     */
+    public static List<Probe> getProbes() {
+        List<Probe> probes = new ArrayList<>();
+        for (Probe probe : probesByName.values()) {
+            if (probe.getSamples() > 0) {
+                probes.add(probe);
+            }
+        }
+        probes.sort(Comparator.comparingLong(Probe::getEstimatedNanos).reversed());
+        return probes;
+    }
+
+    /**
+     * One-line summary of the cost per world tick since the previous call, most expensive
+     * first. Each probe is divided by the ticks of the worlds that ran it. Returns null when no
+     * world has ticked in between. Called by a single task.
+     */
+    public static synchronized String formatSinceLastReport() {
+        long ticks = getWorldTicks();
+        long tickDelta = ticks - reportedTicks;
+        reportedTicks = ticks;
+        if (tickDelta <= 0) {
+            return null;
+        }
+
+        List<Map.Entry<String, Double>> costs = new ArrayList<>();
+        for (Probe probe : probesByName.values()) {
+            long nanos = probe.getEstimatedNanos();
+            long probeTicks = probe.getWorldTicks();
+            long[] previous = reportedByName.put(probe.getName(), new long[] {nanos, probeTicks});
+            long nanosDelta = nanos - (previous != null ? previous[0] : 0L);
+            long probeTickDelta = probeTicks - (previous != null ? previous[1] : 0L);
+            if (nanosDelta > 0 && probeTickDelta > 0) {
+                costs.add(Map.entry(probe.getName(), nanosDelta / 1000.0 / probeTickDelta));
+            }
+        }
+        costs.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+        double totalMicros = 0.0;
+        List<String> parts = new ArrayList<>(costs.size());
+        for (Map.Entry<String, Double> cost : costs) {
+            totalMicros += cost.getValue();
+            parts.add(String.format("%s %.1fus", cost.getKey(), cost.getValue()));
+        }
+        return String.format("%.1fus/tick over %d ticks of %d world(s): ", totalMicros, tickDelta, getWorldCount())
+                + (parts.isEmpty() ? "nothing sampled" : String.join(", ", parts));
+    }
+
+    private static final class WorldTicks {
+        final String name;
+        final LongAdder ticks = new LongAdder();
+        // Only touched by the world's thread
+        int ticksSinceCleanup = 0;
+        volatile boolean retired = false;
+
+        WorldTicks(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Sampled timer for one system. The sampling counter is per thread, so world threads never
+     * share one; the worlds a probe has timed on are remembered for {@link #getMicrosPerTick()}.
+     */
+    public static final class Probe {
+        private final String name;
+        private final int sampleEvery;
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final ThreadLocal<Slot> slots = ThreadLocal.withInitial(Slot::new);
+        private final Set<WorldTicks> worlds = ConcurrentHashMap.newKeySet();
+        private final LongAdder retiredTicks = new LongAdder();
+
+        Probe(String name, int sampleEvery) {
+            this.name = name;
+            this.sampleEvery = sampleEvery;
+        }
+
+        /**
+         * Start timestamp if this call is sampled, 0 otherwise.
+         */
+        public long start() {
+            if (!enabled) {
+                return 0L;
+            }
+            Slot slot = slots.get();
+            if (++slot.countdown < sampleEvery) {
+                return 0L;
+            }
+            slot.countdown = 0;
+            WorldTicks world = currentWorld.get();
+            if (slot.world != world) {
+                // Not known until SystemCostSampler has ticked on this thread, and replaced
+                // once that world has been retired
+                slot.world = world;
+                if (world != null) {
+                    worlds.add(world);
+                }
+            }
+            return System.nanoTime();
+        }
+
+        public void stop(long startNanos) {
+            if (startNanos == 0L) {
+                return;
+            }
+            long nanos = System.nanoTime() - startNanos;
+            samples.increment();
+            sampledNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSamples() {
+            return samples.sum();
+        }
+
+        /**
+         * Total time spent in this system, scaled up from the samples.
+         */
+        public long getEstimatedNanos() {
+            return sampledNanos.sum() * sampleEvery;
+        }
+
+        public long getEstimatedCalls() {
+            return samples.sum() * sampleEvery;
+        }
+
+        /**
+         * Average cost per call in microseconds.
+         */
+        public double getMicrosPerCall() {
+            long count = samples.sum();
+            return count > 0 ? sampledNanos.sum() / 1000.0 / count : 0.0;
+        }
+
+        /**
+         * Ticks of the worlds this probe has run on, including removed ones.
+         */
+        public long getWorldTicks() {
+            long ticks = retiredTicks.sum();
+            for (WorldTicks world : worlds) {
+                ticks += world.ticks.sum();
+            }
+            return ticks;
+        }
+
+        /**
+         * Average cost per tick of the worlds that ran it, in microseconds.
+         */
+        public double getMicrosPerTick() {
+            long ticks = getWorldTicks();
+            return ticks > 0 ? getEstimatedNanos() / 1000.0 / ticks : 0.0;
+        }
+
+        public double getMaxMicros() {
+            return maxNanos.get() / 1000.0;
+        }
+
+        private static final class Slot {
+            int countdown = 0;
+            WorldTicks world = null;
+        }
+    }
+}
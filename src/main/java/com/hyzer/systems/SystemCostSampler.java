@@ -0,0 +1,23 @@
+package com.hyzer.systems;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Counts ticks per world for {@link SystemCostMonitor}, so sampled system time can be reported
+ * per tick of the worlds that ran it. Every world's entity store ticks this once per world tick,
+ * on the world's own thread.
+ */
+public class SystemCostSampler extends TickingSystem<EntityStore> {
+
+    @Override
+    public void tick(float dt, int systemIndex, Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null || world.getName() == null) {
+            return;
+        }
+        SystemCostMonitor.recordWorldTick(world.getName());
+    }
+}
@@ -0,0 +1,358 @@
+package com.hyzer.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Turns members found by reflection into plain functional interfaces, once, at discovery time.
+ *
+ * Public methods on public classes are bound with {@link LambdaMetafactory}, which spins a
+ * class that calls the target directly: after warm-up the JIT inlines it like a hand-written
+ * call. Everything else (fields, non-public methods) goes through a {@link MethodHandle} adapted
+ * to the interface's exact erased type and called with {@code invokeExact}, which skips the
+ * access checks, argument arrays and boxing of {@link Field#get} / {@link Method#invoke}.
+ *
+ * Each of those handles gets a class of its own: a copy of one of the small templates below is
+ * defined as a hidden class with the handle as its class data, read into a static final field.
+ * The JIT treats that field as a constant and inlines through the handle. A lambda capturing
+ * the handle would not do: every handle would share one lambda class and one call site, which
+ * goes megamorphic as soon as a few members are bound.
+ *
+ * Primitive results have their own interfaces ({@link BooleanInvoker}, {@link IntInvoker}) so
+ * nothing is boxed on the way out. Exceptions thrown by the target come out unwrapped.
+ */
+public final class Accessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<byte[]> TEMPLATE_BYTES = new ClassValue<>() {
+        @Override
+        protected byte[] computeValue(Class<?> template) {
+            String resource = template.getName().substring(template.getName().lastIndexOf('.') + 1) + ".class";
+            try (InputStream in = template.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing class file " + resource);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read " + resource, e);
+            }
+        }
+    };
+
+    private Accessors() {
+    }
+
+    @FunctionalInterface
+    public interface Getter {
+        Object get(Object target);
+    }
+
+    @FunctionalInterface
+    public interface Setter {
+        void set(Object target, Object value);
+    }
+
+    /** No-arg method returning a reference. */
+    @FunctionalInterface
+    public interface Invoker {
+        Object invoke(Object target);
+    }
+
+    /** No-arg method returning nothing (or a result nobody needs). */
+    @FunctionalInterface
+    public interface Action {
+        void invoke(Object target);
+    }
+
+    @FunctionalInterface
+    public interface BooleanInvoker {
+        boolean invoke(Object target);
+    }
+
+    @FunctionalInterface
+    public interface IntInvoker {
+        int invoke(Object target);
+    }
+
+    /** Method taking a single int argument. */
+    @FunctionalInterface
+    public interface IntArgAction {
+        void invoke(Object target, int value);
+    }
+
+    public static Getter getter(Field field) {
+        MethodHandle handle = adapt(unreflectGetter(field), MethodType.methodType(Object.class, Object.class));
+        return define(Getter.class, GetterTemplate.class, handle);
+    }
+
+    public static Setter setter(Field field) {
+        MethodHandle handle = adapt(unreflectSetter(field),
+                MethodType.methodType(void.class, Object.class, Object.class));
+        return define(Setter.class, SetterTemplate.class, handle);
+    }
+
+    public static Invoker invoker(Method method) {
+        MethodType samType = MethodType.methodType(Object.class, Object.class);
+        if (!method.getReturnType().isPrimitive()) {
+            Invoker direct = spin(Invoker.class, samType, method);
+            if (direct != null) {
+                return direct;
+            }
+        }
+        MethodHandle handle = adapt(unreflect(method), samType);
+        return define(Invoker.class, InvokerTemplate.class, handle);
+    }
+
+    public static Action action(Method method) {
+        MethodType samType = MethodType.methodType(void.class, Object.class);
+        Action direct = spin(Action.class, samType, method);
+        if (direct != null) {
+            return direct;
+        }
+        MethodHandle handle = adapt(unreflect(method), samType);
+        return define(Action.class, ActionTemplate.class, handle);
+    }
+
+    public static BooleanInvoker booleanInvoker(Method method) {
+        MethodType samType = MethodType.methodType(boolean.class, Object.class);
+        BooleanInvoker direct = spin(BooleanInvoker.class, samType, method);
+        if (direct != null) {
+            return direct;
+        }
+        MethodHandle handle = adapt(unreflect(method), samType);
+        return define(BooleanInvoker.class, BooleanInvokerTemplate.class, handle);
+    }
+
+    public static IntInvoker intInvoker(Method method) {
+        MethodType samType = MethodType.methodType(int.class, Object.class);
+        IntInvoker direct = spin(IntInvoker.class, samType, method);
+        if (direct != null) {
+            return direct;
+        }
+        MethodHandle handle = adapt(unreflect(method), samType);
+        return define(IntInvoker.class, IntInvokerTemplate.class, handle);
+    }
+
+    public static IntArgAction intArgAction(Method method) {
+        MethodType samType = MethodType.methodType(void.class, Object.class, int.class);
+        IntArgAction direct = spin(IntArgAction.class, samType, method);
+        if (direct != null) {
+            return direct;
+        }
+        MethodHandle handle = adapt(unreflect(method), samType);
+        return define(IntArgAction.class, IntArgActionTemplate.class, handle);
+    }
+
+    /**
+     * Bind a public instance method to {@code samInterface} with LambdaMetafactory.
+     * Returns null when that is not possible (non-public member, hidden class, primitive
+     * mismatch) so the caller can fall back to a method handle.
+     */
+    private static <T> T spin(Class<T> samInterface, MethodType samType, Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        if (Modifier.isStatic(method.getModifiers())
+                || !Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(owner.getModifiers())
+                || owner.isHidden()) {
+            return null;
+        }
+        if (samType.returnType().isPrimitive() && samType.returnType() != method.getReturnType()
+                && samType.returnType() != void.class) {
+            return null;
+        }
+        try {
+            MethodHandle target = LOOKUP.unreflect(method);
+            MethodType instantiated = target.type().changeReturnType(
+                    samType.returnType() == void.class ? void.class : target.type().returnType());
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    samInterface.getDeclaredMethods()[0].getName(),
+                    MethodType.methodType(samInterface),
+                    samType,
+                    target,
+                    instantiated);
+            return samInterface.cast(site.getTarget().invoke());
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Define a fresh copy of {@code template} as a hidden nestmate class with {@code handle} as
+     * its class data, and return its instance.
+     */
+    private static <T> T define(Class<T> samInterface, Class<? extends T> template, MethodHandle handle) {
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(
+                    TEMPLATE_BYTES.get(template), handle, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            Object instance = hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+            return samInterface.cast(instance);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot define " + samInterface.getSimpleName() + " for " + handle, e);
+        }
+    }
+
+    /**
+     * Class data of a hidden template copy. Only called from the templates' static initializers.
+     */
+    private static MethodHandle classData(MethodHandles.Lookup lookup) {
+        try {
+            return MethodHandles.classData(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot access " + method, e);
+        }
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot access " + field, e);
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot access " + field, e);
+        }
+    }
+
+    /**
+     * Erase the handle's receiver and reference types to Object so {@code invokeExact} matches
+     * the interface signature. Void results are dropped when the interface returns nothing.
+     */
+    private static MethodHandle adapt(MethodHandle handle, MethodType samType) {
+        MethodHandle adapted = handle;
+        if (samType.returnType() == void.class && handle.type().returnType() != void.class) {
+            adapted = MethodHandles.dropReturn(adapted);
+        }
+        return adapted.asType(samType);
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(e);
+    }
+
+    // Templates for define(). Never loaded as themselves: only their class files are read, and
+    // each hidden copy initializes HANDLE from its own class data.
+
+    private static final class GetterTemplate implements Getter {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public Object get(Object target) {
+            try {
+                return (Object) HANDLE.invokeExact(target);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class SetterTemplate implements Setter {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public void set(Object target, Object value) {
+            try {
+                HANDLE.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class InvokerTemplate implements Invoker {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public Object invoke(Object target) {
+            try {
+                return (Object) HANDLE.invokeExact(target);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class ActionTemplate implements Action {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public void invoke(Object target) {
+            try {
+                HANDLE.invokeExact(target);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class BooleanInvokerTemplate implements BooleanInvoker {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public boolean invoke(Object target) {
+            try {
+                return (boolean) HANDLE.invokeExact(target);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class IntInvokerTemplate implements IntInvoker {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public int invoke(Object target) {
+            try {
+                return (int) HANDLE.invokeExact(target);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class IntArgActionTemplate implements IntArgAction {
+        private static final MethodHandle HANDLE = classData(MethodHandles.lookup());
+
+        @Override
+        public void invoke(Object target, int value) {
+            try {
+                HANDLE.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+}